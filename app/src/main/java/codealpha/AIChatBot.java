@@ -1,6 +1,13 @@
+package codealpha;
+
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 public class AIChatBot {
+    private static final OperationTimer RESPONSE_TIMER = Metrics.timer("chatbot.generateResponse");
+    private static final LongAdder KNOWLEDGE_HITS = Metrics.counter("chatbot.knowledge.hit");
+    private static final LongAdder KNOWLEDGE_MISSES = Metrics.counter("chatbot.knowledge.miss");
+
     private Map<String, String> knowledgeBase;
     private List<String> greetings;
     private List<String> farewells;
@@ -20,6 +27,15 @@ public class AIChatBot {
     }
 
     public String generateResponse(String input) {
+        long start = System.nanoTime();
+        try {
+            return respond(input);
+        } finally {
+            RESPONSE_TIMER.record(start);
+        }
+    }
+
+    private String respond(String input) {
         input = input.toLowerCase().trim();
 
         // Check for greetings
@@ -35,9 +51,11 @@ public class AIChatBot {
         // Check knowledge base for a response
         for (Map.Entry<String, String> entry : knowledgeBase.entrySet()) {
             if (input.contains(entry.getKey())) {
+                KNOWLEDGE_HITS.increment();
                 return entry.getValue();
             }
         }
+        KNOWLEDGE_MISSES.increment();
 
         // If no match found, try to learn
         if (input.contains("is") || input.contains("are")) {
@@ -0,0 +1,1107 @@
+package codealpha;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.Scanner;
+public class GradeTracker {
+    private static final int LEADERBOARD_SIZE = 10;
+    private static final OperationTimer STATISTICS_TIMER = Metrics.timer("grades.computeStatistics");
+
+    private final ArrayList<Student> students;
+    private final Leaderboard leaderboard;
+    private final GradeStore gradeStore;
+    private final Scanner scanner;
+
+    public GradeTracker() {
+        this(null);
+    }
+
+    public GradeTracker(Path storePath) {
+        students = new ArrayList<>();
+        leaderboard = new Leaderboard();
+        gradeStore = storePath == null ? null : new GradeStore(storePath);
+        scanner = new Scanner(System.in);
+    }
+
+    public void run() {
+        loadStudents();
+        while (true) {
+            System.out.println("\n1. Add a student");
+            System.out.println("2. Enter grades for a student");
+            System.out.println("3. Compute statistics");
+            System.out.println("4. Compute class percentiles");
+            System.out.println("5. View leaderboard");
+            System.out.println("6. Exit");
+            System.out.print("Enter your choice: ");
+
+            int choice = scanner.nextInt();
+            scanner.nextLine(); // Consume newline
+
+            switch (choice) {
+                case 1 -> addStudent();
+                case 2 -> enterGrades();
+                case 3 -> computeStatistics();
+                case 4 -> computeClassPercentiles();
+                case 5 -> viewLeaderboard();
+                case 6 -> {
+                    saveStudents();
+                    System.out.println("Goodbye!");
+                    return;
+                }
+                default -> System.out.println("Invalid choice. Please try again.");
+            }
+        }
+    }
+
+    private void loadStudents() {
+        if (gradeStore == null) {
+            return;
+        }
+        try {
+            for (Student student : gradeStore.load()) {
+                register(student);
+            }
+            System.out.println("Loaded " + students.size() + " students.");
+        } catch (IOException e) {
+            System.out.println("Could not load grades: " + e.getMessage());
+        }
+    }
+
+    private void saveStudents() {
+        if (gradeStore == null) {
+            return;
+        }
+        try {
+            gradeStore.save(students);
+            System.out.println("Grades saved.");
+        } catch (IOException e) {
+            System.out.println("Could not save grades: " + e.getMessage());
+        }
+    }
+
+    private void addStudent() {
+        System.out.print("Enter student name: ");
+        String name = scanner.nextLine();
+        register(new Student(name));
+        System.out.println("Student added successfully.");
+    }
+
+    void register(Student student) {
+        students.add(student);
+        leaderboard.add(student);
+    }
+
+    private void enterGrades() {
+        System.out.print("Enter student name: ");
+        String name = scanner.nextLine();
+        Student student = findStudent(name);
+
+        if (student == null) {
+            System.out.println("Student not found.");
+            return;
+        }
+
+        System.out.print("Enter the number of grades to add: ");
+        int count = scanner.nextInt();
+
+        for (int i = 0; i < count; i++) {
+            System.out.print("Enter grade #" + (i + 1) + ": ");
+            double grade = scanner.nextDouble();
+            student.addGrade(grade);
+        }
+
+        System.out.println("Grades added successfully.");
+    }
+
+    private void computeStatistics() {
+        System.out.print("Enter student name: ");
+        String name = scanner.nextLine();
+        Student student = findStudent(name);
+
+        if (student == null) {
+            System.out.println("Student not found.");
+            return;
+        }
+
+        if (student.getGradeCount() == 0) {
+            System.out.println("No grades available for this student.");
+            return;
+        }
+
+        // Timed without the console prompts so the figure reflects the computation
+        long start = System.nanoTime();
+        double average = student.getAverageGrade();
+        // Fractions 0 and 1 are the exact lowest and highest grades
+        double[] percentiles = student.getGradeQuantiles(0, 0.1, 0.5, 0.9, 1);
+        int rank = leaderboard.rankOf(student);
+        STATISTICS_TIMER.record(start);
+
+        System.out.printf("Statistics for %s:%n", student.getName());
+        System.out.printf("Average grade: %.2f%n", average);
+        System.out.printf("Highest grade: %.2f%n", percentiles[4]);
+        System.out.printf("Lowest grade: %.2f%n", percentiles[0]);
+        System.out.printf("Percentiles (p10/p50/p90): %.2f / %.2f / %.2f%n",
+                percentiles[1], percentiles[2], percentiles[3]);
+        System.out.printf("Rank: %d of %d%n", rank, leaderboard.size());
+    }
+
+    private void computeClassPercentiles() {
+        GradeSketch merged = new GradeSketch();
+        for (Student student : students) {
+            student.mergeGradesInto(merged);
+        }
+
+        if (merged.isEmpty()) {
+            System.out.println("No grades available.");
+            return;
+        }
+
+        double[] percentiles = merged.getQuantiles(0.1, 0.5, 0.9);
+        System.out.printf("Class statistics (%d grades, %d students):%n", merged.getCount(), students.size());
+        System.out.printf("Percentiles (p10/p50/p90): %.2f / %.2f / %.2f%n",
+                percentiles[0], percentiles[1], percentiles[2]);
+        System.out.printf("Approximate rank error: +/- %.1f%%%n", merged.getNormalizedRankError() * 100);
+    }
+
+    private void viewLeaderboard() {
+        List<Student> top = leaderboard.topK(LEADERBOARD_SIZE);
+        if (top.isEmpty()) {
+            System.out.println("No students available.");
+            return;
+        }
+
+        System.out.println("Top students by average grade:");
+        for (int i = 0; i < top.size(); i++) {
+            Student student = top.get(i);
+            System.out.printf("%d. %s - %.2f%n", i + 1, student.getName(), student.getAverageGrade());
+        }
+    }
+
+    Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    Student findStudent(String name) {
+        for (Student student : students) {
+            if (student.getName().equalsIgnoreCase(name)) {
+                return student;
+            }
+        }
+        return null;
+    }
+
+    public static void main(String[] args) {
+        GradeTracker tracker = args.length > 0 ? new GradeTracker(Paths.get(args[0])) : new GradeTracker();
+        tracker.run();
+    }
+}
+
+class Student {
+    private static final AtomicInteger nextId = new AtomicInteger(1);
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int id;
+    private final String name;
+    private double[] grades;
+    private int gradeCount;
+    private GradeSketch gradeSketch; // Built on first use
+    private double gradeSum;
+    private Leaderboard leaderboard;
+
+    public Student(String name) {
+        this(nextId.getAndIncrement(), name);
+    }
+
+    Student(int id, String name) {
+        this.id = id;
+        this.name = name;
+        this.grades = new double[INITIAL_CAPACITY];
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized double[] getGrades() {
+        return Arrays.copyOf(grades, gradeCount);
+    }
+
+    public synchronized int getGradeCount() {
+        return gradeCount;
+    }
+
+    /** Returns a snapshot of the grade distribution; later grades do not change it. */
+    public synchronized GradeSketch getGradeSketch() {
+        return new GradeSketch(sketch());
+    }
+
+    /** Same as {@code getGradeSketch().getQuantiles(fractions)}, without copying the sketch. */
+    public synchronized double[] getGradeQuantiles(double... fractions) {
+        return sketch().getQuantiles(fractions);
+    }
+
+    /** Merges this student's grade distribution into {@code target} without copying it first. */
+    synchronized void mergeGradesInto(GradeSketch target) {
+        target.merge(sketch());
+    }
+
+    private GradeSketch sketch() {
+        if (gradeSketch == null) {
+            gradeSketch = new GradeSketch();
+            for (int i = 0; i < gradeCount; i++) {
+                gradeSketch.add(grades[i]);
+            }
+        }
+        return gradeSketch;
+    }
+
+    public synchronized void addGrade(double grade) {
+        ensureCapacity(gradeCount + 1);
+        grades[gradeCount++] = grade;
+        gradeSum += grade;
+        if (gradeSketch != null) {
+            gradeSketch.add(grade);
+        }
+        if (leaderboard != null) {
+            leaderboard.update(this, getAverageGrade());
+        }
+    }
+
+    synchronized void addGrades(double[] values, int offset, int length) {
+        ensureCapacity(gradeCount + length);
+        System.arraycopy(values, offset, grades, gradeCount, length);
+        for (int i = offset; i < offset + length; i++) {
+            gradeSum += values[i];
+            if (gradeSketch != null) {
+                gradeSketch.add(values[i]);
+            }
+        }
+        gradeCount += length;
+        if (leaderboard != null) {
+            leaderboard.update(this, getAverageGrade());
+        }
+    }
+
+    public synchronized double getAverageGrade() {
+        if (gradeCount == 0) {
+            return 0;
+        }
+        return gradeSum / gradeCount;
+    }
+
+    synchronized void joinLeaderboard(Leaderboard leaderboard) {
+        this.leaderboard = leaderboard;
+        leaderboard.update(this, getAverageGrade());
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > grades.length) {
+            grades = Arrays.copyOf(grades, Math.max(required, grades.length * 2));
+        }
+    }
+}
+
+/**
+ * Binary on-disk store for students and their grades.
+ * <p>
+ * The file is a sequence of blocks, each followed by a footer indexing every
+ * block written so far:
+ * <pre>
+ * block:  magic, recordCount, { id, nameLength, name (UTF-8), gradeCount, grades (double) }*
+ * footer: blockOffset (long)*, blockCount, checksum, magic
+ * </pre>
+ * A student may appear in several blocks; its grades are the concatenation in
+ * block order. Saving appends one block holding only the students and grades
+ * added since the last load or save, then a new footer; nothing already
+ * written is modified. The last footer in the file wins, so if a save is
+ * interrupted the loader skips the torn tail and falls back to the previous
+ * footer, whose checksum tells it apart from stray bytes. A file whose very
+ * first save never got its footer holds no complete save and reads as empty.
+ * Loading maps each block read-only and bulk-copies the grade arrays, so
+ * there is no text parsing on startup.
+ */
+class GradeStore {
+    private static final int BLOCK_MAGIC = 0x47524442; // "GRDB"
+    private static final int FOOTER_MAGIC = 0x47524446; // "GRDF"
+    private static final int FOOTER_TAIL_BYTES = Integer.BYTES * 3;
+    private static final int SCAN_CHUNK_BYTES = 1 << 16;
+    private static final int MAX_BLOCKS = (Integer.MAX_VALUE - Integer.BYTES) / Long.BYTES;
+
+    private static final class Footer {
+        final long[] offsets;
+        final long start;
+        final long end;
+
+        Footer(long[] offsets, long start, long end) {
+            this.offsets = offsets;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final Path path;
+    private final Map<Integer, Integer> persistedCounts = new HashMap<>();
+    // Whether persistedCounts reflects the file, i.e. it has been loaded or saved through this store
+    private boolean synced;
+
+    public GradeStore(Path path) {
+        this.path = path;
+    }
+
+    public List<Student> load() throws IOException {
+        persistedCounts.clear();
+        synced = true;
+        if (!Files.exists(path)) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, Student> studentsById = new LinkedHashMap<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Footer footer = findFooter(channel);
+            long[] offsets = footer == null ? new long[0] : footer.offsets;
+            double[] buffer = new double[0];
+            for (int block = 0; block < offsets.length; block++) {
+                long end = block + 1 < offsets.length ? offsets[block + 1] : footer.start;
+                MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, offsets[block], end - offsets[block]);
+                try {
+                    if (data.getInt() != BLOCK_MAGIC) {
+                        throw new IOException("Corrupt grade store block at offset " + offsets[block]);
+                    }
+                    int records = data.getInt();
+                    for (int r = 0; r < records; r++) {
+                        int id = data.getInt();
+                        byte[] nameBytes = new byte[data.getInt()];
+                        data.get(nameBytes);
+                        int gradeCount = data.getInt();
+
+                        Student student = studentsById.get(id);
+                        if (student == null) {
+                            student = new Student(id, new String(nameBytes, StandardCharsets.UTF_8));
+                            studentsById.put(id, student);
+                        }
+                        if (buffer.length < gradeCount) {
+                            buffer = new double[gradeCount];
+                        }
+                        data.asDoubleBuffer().get(buffer, 0, gradeCount);
+                        data.position(data.position() + gradeCount * Double.BYTES);
+                        student.addGrades(buffer, 0, gradeCount);
+                    }
+                } catch (BufferUnderflowException | IllegalArgumentException e) {
+                    throw new IOException("Corrupt grade store block at offset " + offsets[block], e);
+                }
+            }
+        }
+
+        for (Student student : studentsById.values()) {
+            persistedCounts.put(student.getId(), student.getGradeCount());
+        }
+        return new ArrayList<>(studentsById.values());
+    }
+
+    public void save(List<Student> students) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            Footer previous = findFooter(channel);
+            if (!synced) {
+                // Saving over an existing file without loading it first must not repeat its grades
+                readPersistedCounts(channel, previous);
+                synced = true;
+            }
+
+            List<Student> changed = new ArrayList<>();
+            for (Student student : students) {
+                Integer persisted = persistedCounts.get(student.getId());
+                if (persisted == null || persisted < student.getGradeCount()) {
+                    changed.add(student);
+                }
+            }
+            if (changed.isEmpty() && previous != null) {
+                return;
+            }
+            long[] previousOffsets = previous == null ? new long[0] : previous.offsets;
+            long blockStart = previous == null ? 0 : previous.end;
+            long[] offsets = Arrays.copyOf(previousOffsets, previousOffsets.length + 1);
+            offsets[previousOffsets.length] = blockStart;
+
+            // Only drops the torn tail of an interrupted save; the last good footer stays intact
+            channel.truncate(blockStart);
+            channel.position(blockStart);
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+
+            int[] savedCounts = new int[changed.size()];
+            out.writeInt(BLOCK_MAGIC);
+            out.writeInt(changed.size());
+            for (int i = 0; i < changed.size(); i++) {
+                Student student = changed.get(i);
+                double[] grades = student.getGrades();
+                int from = persistedCounts.getOrDefault(student.getId(), 0);
+                byte[] nameBytes = student.getName().getBytes(StandardCharsets.UTF_8);
+
+                out.writeInt(student.getId());
+                out.writeInt(nameBytes.length);
+                out.write(nameBytes);
+                out.writeInt(grades.length - from);
+                for (int g = from; g < grades.length; g++) {
+                    out.writeDouble(grades[g]);
+                }
+                savedCounts[i] = grades.length;
+            }
+            // The block must be on disk before a footer that points at it
+            out.flush();
+            channel.force(false);
+
+            out.write(encodeFooter(offsets));
+            out.flush();
+            channel.force(true);
+
+            for (int i = 0; i < changed.size(); i++) {
+                persistedCounts.put(changed.get(i).getId(), savedCounts[i]);
+            }
+        }
+    }
+
+    // Counts each student's saved grades from the block headers, skipping names and grade data
+    private void readPersistedCounts(FileChannel channel, Footer footer) throws IOException {
+        persistedCounts.clear();
+        if (footer == null) {
+            return;
+        }
+        long[] offsets = footer.offsets;
+        for (int block = 0; block < offsets.length; block++) {
+            long end = block + 1 < offsets.length ? offsets[block + 1] : footer.start;
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, offsets[block], end - offsets[block]);
+            try {
+                if (data.getInt() != BLOCK_MAGIC) {
+                    throw new IOException("Corrupt grade store block at offset " + offsets[block]);
+                }
+                int records = data.getInt();
+                for (int r = 0; r < records; r++) {
+                    int id = data.getInt();
+                    int nameLength = data.getInt();
+                    data.position(data.position() + nameLength);
+                    int gradeCount = data.getInt();
+                    data.position(data.position() + gradeCount * Double.BYTES);
+                    persistedCounts.merge(id, gradeCount, Integer::sum);
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("Corrupt grade store block at offset " + offsets[block], e);
+            }
+        }
+    }
+
+    private static byte[] encodeFooter(long[] offsets) {
+        ByteBuffer footer = ByteBuffer.allocate((int) footerLength(offsets.length));
+        for (long offset : offsets) {
+            footer.putLong(offset);
+        }
+        footer.putInt(offsets.length);
+        footer.putInt(checksum(footer.array(), footer.position()));
+        footer.putInt(FOOTER_MAGIC);
+        return footer.array();
+    }
+
+    // The footer normally ends the file; after an interrupted save, use the last complete one.
+    // Returns null if no save has completed yet, i.e. the file is empty or holds only a torn first block.
+    private static Footer findFooter(FileChannel channel) throws IOException {
+        long end = channel.size();
+        while (end >= FOOTER_TAIL_BYTES) {
+            Footer footer = readFooter(channel, end);
+            if (footer != null) {
+                return footer;
+            }
+            end = previousMagicEnd(channel, end - 1);
+        }
+        if (!startsWithBlockMagic(channel)) {
+            throw new IOException("Not a grade store file");
+        }
+        return null;
+    }
+
+    // True if the file is empty or begins with (a prefix of) the first block's magic
+    private static boolean startsWithBlockMagic(FileChannel channel) throws IOException {
+        int length = (int) Math.min(Integer.BYTES, channel.size());
+        byte[] head = read(channel, 0, length).array();
+        byte[] magic = ByteBuffer.allocate(Integer.BYTES).putInt(BLOCK_MAGIC).array();
+        return Arrays.equals(head, 0, length, magic, 0, length);
+    }
+
+    // Returns the footer ending at end, or null if those bytes are not a valid footer
+    private static Footer readFooter(FileChannel channel, long end) throws IOException {
+        ByteBuffer tail = read(channel, end - FOOTER_TAIL_BYTES, FOOTER_TAIL_BYTES);
+        int blockCount = tail.getInt();
+        int checksum = tail.getInt();
+        if (tail.getInt() != FOOTER_MAGIC || blockCount < 0 || blockCount > MAX_BLOCKS
+                || footerLength(blockCount) > end) {
+            return null;
+        }
+
+        long start = end - footerLength(blockCount);
+        ByteBuffer index = read(channel, start, blockCount * Long.BYTES + Integer.BYTES);
+        if (checksum(index.array(), index.limit()) != checksum) {
+            return null;
+        }
+        long[] offsets = new long[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            offsets[i] = index.getLong();
+            if (offsets[i] < (i == 0 ? 0 : offsets[i - 1] + 1) || offsets[i] >= start) {
+                return null;
+            }
+        }
+        return new Footer(offsets, start, end);
+    }
+
+    // Returns the end of the last footer magic finishing at or before limit, or -1 if there is none
+    private static long previousMagicEnd(FileChannel channel, long limit) throws IOException {
+        long chunkEnd = limit;
+        while (chunkEnd >= FOOTER_TAIL_BYTES) {
+            long chunkStart = Math.max(0, chunkEnd - SCAN_CHUNK_BYTES);
+            ByteBuffer chunk = read(channel, chunkStart, (int) (chunkEnd - chunkStart));
+            for (int i = chunk.limit() - Integer.BYTES; i >= 0; i--) {
+                if (chunk.getInt(i) == FOOTER_MAGIC) {
+                    return chunkStart + i + Integer.BYTES;
+                }
+            }
+            // Overlap by a few bytes so a magic straddling two chunks is still seen
+            chunkEnd = chunkStart + Integer.BYTES - 1;
+        }
+        return -1;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of grade store");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static int checksum(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    private static long footerLength(int blockCount) {
+        return (long) blockCount * Long.BYTES + FOOTER_TAIL_BYTES;
+    }
+}
+
+/**
+ * Students ranked by average grade, kept current as grades are added.
+ * <p>
+ * Backed by an order-statistic treap (each node knows its subtree size), so
+ * updates, rank lookups and the start of a top-K or range scan are all
+ * O(log n) expected. Ties on the average are broken by student id. Updates
+ * from several grade-entry threads are serialized by a write lock, while
+ * queries share a read lock.
+ */
+class Leaderboard {
+    private static final class Node {
+        final Student student;
+        final int studentId;
+        final double average;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(Student student, double average) {
+            this.student = student;
+            this.studentId = student.getId();
+            this.average = average;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private final Map<Student, Node> nodes = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+
+    public void add(Student student) {
+        student.joinLeaderboard(this);
+    }
+
+    void update(Student student, double average) {
+        lock.writeLock().lock();
+        try {
+            Node previous = nodes.get(student);
+            if (previous != null) {
+                if (previous.average == average) {
+                    return;
+                }
+                root = remove(root, previous);
+            }
+            Node node = new Node(student, average);
+            nodes.put(student, node);
+            root = insert(root, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Returns the 1-based rank of the student, or -1 if it is not on the board. */
+    public int rankOf(Student student) {
+        lock.readLock().lock();
+        try {
+            Node target = nodes.get(student);
+            if (target == null) {
+                return -1;
+            }
+            int rank = 0;
+            Node node = root;
+            while (node != null) {
+                int cmp = compare(target, node);
+                if (cmp < 0) {
+                    node = node.left;
+                } else {
+                    rank += size(node.left) + 1;
+                    if (cmp == 0) {
+                        return rank;
+                    }
+                    node = node.right;
+                }
+            }
+            return -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Student> topK(int k) {
+        List<Student> result = new ArrayList<>(Math.min(k, 1024));
+        lock.readLock().lock();
+        try {
+            ArrayDeque<Node> stack = new ArrayDeque<>();
+            Node node = root;
+            while ((node != null || !stack.isEmpty()) && result.size() < k) {
+                while (node != null) {
+                    stack.push(node);
+                    node = node.left;
+                }
+                node = stack.pop();
+                result.add(node.student);
+                node = node.right;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /** Returns students whose average lies in [minAverage, maxAverage], best first. */
+    public List<Student> range(double minAverage, double maxAverage) {
+        List<Student> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            collectRange(root, minAverage, maxAverage, result);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private static void collectRange(Node node, double minAverage, double maxAverage, List<Student> result) {
+        while (node != null) {
+            if (node.average > maxAverage) {
+                node = node.right;
+            } else if (node.average < minAverage) {
+                node = node.left;
+            } else {
+                collectRange(node.left, minAverage, maxAverage, result);
+                result.add(node.student);
+                node = node.right;
+            }
+        }
+    }
+
+    // Higher averages sort first; ties go to the lower student id
+    private static int compare(Node a, Node b) {
+        int cmp = Double.compare(b.average, a.average);
+        return cmp != 0 ? cmp : Integer.compare(a.studentId, b.studentId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void resize(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            Node[] parts = split(node, inserted);
+            inserted.left = parts[0];
+            inserted.right = parts[1];
+            resize(inserted);
+            return inserted;
+        }
+        if (compare(inserted, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        resize(node);
+        return node;
+    }
+
+    private static Node remove(Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+        if (node == removed) {
+            return join(node.left, node.right);
+        }
+        if (compare(removed, node) < 0) {
+            node.left = remove(node.left, removed);
+        } else {
+            node.right = remove(node.right, removed);
+        }
+        resize(node);
+        return node;
+    }
+
+    // Splits into nodes ordered before the pivot and nodes ordered after it
+    private static Node[] split(Node node, Node pivot) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(node, pivot) < 0) {
+            Node[] parts = split(node.right, pivot);
+            node.right = parts[0];
+            resize(node);
+            parts[0] = node;
+            return parts;
+        }
+        Node[] parts = split(node.left, pivot);
+        node.left = parts[1];
+        resize(node);
+        parts[1] = node;
+        return parts;
+    }
+
+    private static Node join(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = join(left.right, right);
+            resize(left);
+            return left;
+        }
+        right.left = join(left, right.left);
+        resize(right);
+        return right;
+    }
+}
+
+/**
+ * Mergeable quantile sketch (KLL) over a stream of grades.
+ * <p>
+ * Items are kept in a stack of compactors; when a level fills up it is sorted
+ * and every other item is promoted to the next level with twice the weight.
+ * Memory stays around {@code 3k} doubles no matter how many grades are added,
+ * and sketches with the same {@code k} can be merged into cohort or district
+ * totals without touching the raw grades. With the default {@code k = 200} the
+ * rank of a returned quantile is within about 1.3% of {@code n} with 99%
+ * confidence; min and max are always exact. Instances are not thread-safe;
+ * {@link Student} guards its own sketch and hands out copies.
+ */
+class GradeSketch {
+    static final int DEFAULT_K = 200;
+    private static final int MIN_LEVEL_CAPACITY = 8;
+    private static final double LEVEL_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private final Random random; // null for ThreadLocalRandom; fixed seeds make runs reproducible
+    private double[][] levels;
+    private int[] sizes;
+    private int numLevels;
+    private int retained;
+    private int capacity;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    public GradeSketch() {
+        this(DEFAULT_K);
+    }
+
+    public GradeSketch(int k) {
+        this(k, null);
+    }
+
+    GradeSketch(int k, Random random) {
+        if (k < MIN_LEVEL_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_LEVEL_CAPACITY);
+        }
+        this.k = k;
+        this.random = random;
+        this.levels = new double[][] { new double[MIN_LEVEL_CAPACITY] };
+        this.sizes = new int[1];
+        this.numLevels = 1;
+        this.capacity = computeTotalCapacity();
+    }
+
+    public GradeSketch(GradeSketch other) {
+        this.k = other.k;
+        this.random = other.random;
+        this.levels = new double[other.levels.length][];
+        for (int level = 0; level < other.numLevels; level++) {
+            this.levels[level] = Arrays.copyOf(other.levels[level], Math.max(MIN_LEVEL_CAPACITY, other.sizes[level]));
+        }
+        this.sizes = Arrays.copyOf(other.sizes, other.sizes.length);
+        this.numLevels = other.numLevels;
+        this.retained = other.retained;
+        this.capacity = other.capacity;
+        this.count = other.count;
+        this.min = other.min;
+        this.max = other.max;
+    }
+
+    public void add(double value) {
+        updateMinMax(value, value);
+        append(0, value);
+        count++;
+        if (retained > capacity) {
+            compress();
+        }
+    }
+
+    public void merge(GradeSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge sketches with different k");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        updateMinMax(other.min, other.max);
+        for (int level = 0; level < other.numLevels; level++) {
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        count += other.count;
+        while (retained > capacity) {
+            compress();
+        }
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /** Number of items held, which bounds the sketch's memory whatever {@link #getCount()} is. */
+    int getRetainedItems() {
+        return retained;
+    }
+
+    public double getNormalizedRankError() {
+        return 2.296 / Math.pow(k, 0.9723); // empirical 99% bound for KLL
+    }
+
+    public double getQuantile(double fraction) {
+        return getQuantiles(fraction)[0];
+    }
+
+    /** Does not modify the sketch, so concurrent queries against a shared snapshot are safe. */
+    public double[] getQuantiles(double... fractions) {
+        double[] result = new double[fractions.length];
+        if (count == 0) {
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int filled = 0;
+        for (int level = 0; level < numLevels; level++) {
+            int size = sizes[level];
+            long weight = 1L << level;
+            if (filled == 0) {
+                // Nothing to merge with yet, so sort this level where it lands
+                System.arraycopy(levels[level], 0, values, 0, size);
+                Arrays.sort(values, 0, size);
+                Arrays.fill(weights, 0, size, weight);
+                filled = size;
+            } else {
+                double[] items = Arrays.copyOf(levels[level], size);
+                Arrays.sort(items);
+                filled = mergeSorted(values, weights, filled, items, size, weight);
+            }
+        }
+
+        for (int q = 0; q < fractions.length; q++) {
+            double fraction = fractions[q];
+            if (fraction < 0 || fraction > 1) {
+                throw new IllegalArgumentException("Quantile fraction must be between 0 and 1");
+            }
+            if (fraction == 0) {
+                result[q] = min;
+            } else if (fraction == 1) {
+                result[q] = max;
+            } else {
+                long target = Math.max(1, (long) Math.ceil(fraction * count));
+                long cumulative = 0;
+                int i = 0;
+                while (i < filled - 1 && cumulative + weights[i] < target) {
+                    cumulative += weights[i++];
+                }
+                result[q] = values[i];
+            }
+        }
+        return result;
+    }
+
+    private static int mergeSorted(double[] values, long[] weights, int filled,
+                                   double[] items, int size, long weight) {
+        // Merge from the back so the already-sorted prefix can be shifted in place
+        int i = filled - 1;
+        int j = size - 1;
+        int out = filled + size - 1;
+        while (j >= 0) {
+            if (i >= 0 && values[i] > items[j]) {
+                values[out] = values[i];
+                weights[out] = weights[i];
+                i--;
+            } else {
+                values[out] = items[j];
+                weights[out] = weight;
+                j--;
+            }
+            out--;
+        }
+        return filled + size;
+    }
+
+    private void updateMinMax(double low, double high) {
+        if (count == 0) {
+            min = low;
+            max = high;
+        } else {
+            min = Math.min(min, low);
+            max = Math.max(max, high);
+        }
+    }
+
+    private void append(int level, double value) {
+        while (level >= numLevels) {
+            addLevel();
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+        }
+        levels[level][sizes[level]++] = value;
+        retained++;
+    }
+
+    private void addLevel() {
+        if (numLevels == levels.length) {
+            levels = Arrays.copyOf(levels, numLevels * 2);
+            sizes = Arrays.copyOf(sizes, numLevels * 2);
+        }
+        levels[numLevels] = new double[MIN_LEVEL_CAPACITY];
+        sizes[numLevels] = 0;
+        numLevels++;
+        capacity = computeTotalCapacity();
+    }
+
+    private int levelCapacity(int level) {
+        int depth = numLevels - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(LEVEL_DECAY, depth)));
+    }
+
+    private int computeTotalCapacity() {
+        int total = 0;
+        for (int level = 0; level < numLevels; level++) {
+            total += levelCapacity(level);
+        }
+        return total;
+    }
+
+    private void compress() {
+        for (int level = 0; level < numLevels; level++) {
+            if (sizes[level] >= levelCapacity(level)) {
+                compactLevel(level);
+                return;
+            }
+        }
+    }
+
+    private void compactLevel(int level) {
+        if (level + 1 == numLevels) {
+            addLevel();
+        }
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+
+        // An odd item out stays behind so that the total weight is preserved
+        int kept = size % 2;
+        boolean odd = random != null ? random.nextBoolean() : ThreadLocalRandom.current().nextBoolean();
+        int offset = odd ? 1 : 0;
+        for (int i = kept + offset; i < size; i += 2) {
+            append(level + 1, items[i]);
+        }
+        retained -= size - kept;
+        sizes[level] = kept;
+    }
+}
@@ -0,0 +1,1106 @@
+package codealpha;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+class Room {
+    private int roomNumber;
+    private String category;
+    private double pricePerNight;
+    private boolean isAvailable;
+
+    public Room(int roomNumber, String category, double pricePerNight) {
+        this.roomNumber = roomNumber;
+        this.category = category;
+        this.pricePerNight = pricePerNight;
+        this.isAvailable = true;
+    }
+
+    // Getters and setters
+    public int getRoomNumber() { return roomNumber; }
+    public String getCategory() { return category; }
+    public double getPricePerNight() { return pricePerNight; }
+    public boolean isAvailable() { return isAvailable; }
+    public void setAvailable(boolean available) { isAvailable = available; }
+
+    @Override
+    public String toString() {
+        return "Room " + roomNumber + " (" + category + ") - $" + pricePerNight + "/night";
+    }
+}
+
+class Reservation {
+    private static final AtomicInteger nextId = new AtomicInteger(1);
+    private int reservationId;
+    private Room room;
+    private String guestName;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private double totalPrice;
+
+    public Reservation(Room room, String guestName, LocalDate checkInDate, LocalDate checkOutDate) {
+        this.reservationId = nextId.getAndIncrement();
+        this.room = room;
+        this.guestName = guestName;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.totalPrice = calculateTotalPrice();
+    }
+
+    private double calculateTotalPrice() {
+        long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        return nights * room.getPricePerNight();
+    }
+
+    // Getters
+    public int getReservationId() { return reservationId; }
+    public Room getRoom() { return room; }
+    public String getGuestName() { return guestName; }
+    public LocalDate getCheckInDate() { return checkInDate; }
+    public LocalDate getCheckOutDate() { return checkOutDate; }
+    public double getTotalPrice() { return totalPrice; }
+
+    @Override
+    public String toString() {
+        return "Reservation " + reservationId + ": " + guestName + " - " + room + 
+               " from " + checkInDate + " to " + checkOutDate + 
+               " (Total: $" + totalPrice + ")";
+    }
+}
+
+class Hotel {
+    private static final OperationTimer SEARCH_TIMER = Metrics.timer("hotel.searchAvailableRooms");
+    private static final OperationTimer RESERVATION_TIMER = Metrics.timer("hotel.makeReservation");
+
+    // Bounds on what can be booked, which also bound the occupancy ledger's day window
+    static final LocalDate FIRST_BOOKABLE_NIGHT = LocalDate.of(1970, 1, 1);
+    static final LocalDate LAST_BOOKABLE_CHECK_OUT = LocalDate.of(2100, 1, 1);
+    static final int MAX_STAY_NIGHTS = 365;
+
+    private List<Room> rooms;
+    private Map<Integer, Room> roomsByNumber;
+    private Map<Integer, Reservation> reservations;
+    private Map<Integer, TreeMap<LocalDate, Reservation>> reservationsByRoom;
+    private OccupancyLedger occupancyLedger;
+
+    public Hotel() {
+        this(Collections.emptyList());
+        initializeRooms();
+    }
+
+    public Hotel(List<Room> rooms) {
+        this.rooms = new ArrayList<>();
+        roomsByNumber = new HashMap<>();
+        reservations = new LinkedHashMap<>();
+        reservationsByRoom = new HashMap<>();
+        occupancyLedger = new OccupancyLedger();
+        for (Room room : rooms) {
+            addRoom(room);
+        }
+    }
+
+    private void initializeRooms() {
+        addRoom(new Room(101, "Standard", 100));
+        addRoom(new Room(102, "Standard", 100));
+        addRoom(new Room(201, "Deluxe", 150));
+        addRoom(new Room(202, "Deluxe", 150));
+        addRoom(new Room(301, "Suite", 250));
+    }
+
+    private void addRoom(Room room) {
+        rooms.add(room);
+        roomsByNumber.put(room.getRoomNumber(), room);
+        reservationsByRoom.put(room.getRoomNumber(), new TreeMap<>());
+        occupancyLedger.addRoom(room);
+    }
+
+    public Room getRoom(int roomNumber) {
+        return roomsByNumber.get(roomNumber);
+    }
+
+    public List<Room> searchAvailableRooms(LocalDate checkIn, LocalDate checkOut) {
+        return searchAvailableRooms(checkIn, checkOut, 0, Double.MAX_VALUE);
+    }
+
+    public List<Room> searchAvailableRooms(LocalDate checkIn, LocalDate checkOut, double minPrice, double maxPrice) {
+        long start = System.nanoTime();
+        List<Room> availableRooms = findAvailableRooms(checkIn, checkOut, minPrice, maxPrice);
+        SEARCH_TIMER.record(start);
+        return availableRooms;
+    }
+
+    // Untimed search, for callers such as HotelRegistry that time the whole query themselves
+    List<Room> findAvailableRooms(LocalDate checkIn, LocalDate checkOut, double minPrice, double maxPrice) {
+        List<Room> availableRooms = new ArrayList<>();
+        for (Room room : rooms) {
+            double price = room.getPricePerNight();
+            if (price >= minPrice && price <= maxPrice && isRoomAvailable(room, checkIn, checkOut)) {
+                availableRooms.add(room);
+            }
+        }
+        return availableRooms;
+    }
+
+    private boolean isRoomAvailable(Room room, LocalDate checkIn, LocalDate checkOut) {
+        // Booked stays never touch each other, so ordering by check-in also orders by check-out
+        // and the latest stay starting on or before our check-out is the only one that can clash.
+        TreeMap<LocalDate, Reservation> bookings = reservationsByRoom.get(room.getRoomNumber());
+        Map.Entry<LocalDate, Reservation> latest = bookings.floorEntry(checkOut);
+        return latest == null || latest.getValue().getCheckOutDate().isBefore(checkIn);
+    }
+
+    public Reservation makeReservation(Room room, String guestName, LocalDate checkIn, LocalDate checkOut) {
+        long start = System.nanoTime();
+        try {
+            if (!isBookable(checkIn, checkOut) || getRoom(room.getRoomNumber()) != room) {
+                return null;
+            }
+            if (isRoomAvailable(room, checkIn, checkOut)) {
+                Reservation reservation = new Reservation(room, guestName, checkIn, checkOut);
+                // Ledger first: if it throws, the reservation book is left untouched
+                occupancyLedger.recordReservation(reservation);
+                reservations.put(reservation.getReservationId(), reservation);
+                reservationsByRoom.get(room.getRoomNumber()).put(checkIn, reservation);
+                return reservation;
+            }
+            return null;
+        } finally {
+            RESERVATION_TIMER.record(start);
+        }
+    }
+
+    private static boolean isBookable(LocalDate checkIn, LocalDate checkOut) {
+        return checkOut.isAfter(checkIn)
+            && !checkIn.isBefore(FIRST_BOOKABLE_NIGHT)
+            && !checkOut.isAfter(LAST_BOOKABLE_CHECK_OUT)
+            && ChronoUnit.DAYS.between(checkIn, checkOut) <= MAX_STAY_NIGHTS;
+    }
+
+    public Reservation getReservation(int reservationId) {
+        return reservations.get(reservationId);
+    }
+
+    public OccupancyLedger getOccupancyLedger() {
+        return occupancyLedger;
+    }
+
+    public boolean cancelReservation(int reservationId) {
+        Reservation reservation = reservations.remove(reservationId);
+        if (reservation != null) {
+            reservationsByRoom.get(reservation.getRoom().getRoomNumber()).remove(reservation.getCheckInDate());
+            occupancyLedger.recordCancellation(reservation);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean processPayment(int reservationId, double amount) {
+        Reservation reservation = getReservation(reservationId);
+        // In a real system, you would integrate with a payment gateway here
+        return reservation != null && amount >= reservation.getTotalPrice();
+    }
+}
+
+/**
+ * Per-category room-night and revenue totals, maintained as stays are booked
+ * and cancelled.
+ * <p>
+ * Each metric is a {@link DailyRangeSum} indexed by epoch day, so recording a
+ * stay and totalling any date range are both O(log n) in the number of days
+ * covered, whatever the size of the reservation book. Date ranges are
+ * half-open like stays: {@code from} is the first night counted and {@code to}
+ * the first night excluded.
+ */
+class OccupancyLedger {
+    private final Map<String, Integer> categoryIndex = new LinkedHashMap<>();
+    private final List<Integer> roomCounts = new ArrayList<>();
+    private final List<DailyRangeSum> roomNights = new ArrayList<>();
+    private final List<DailyRangeSum> revenue = new ArrayList<>();
+
+    void addRoom(Room room) {
+        int index = categoryIndex.computeIfAbsent(room.getCategory(), category -> {
+            roomCounts.add(0);
+            roomNights.add(new DailyRangeSum());
+            revenue.add(new DailyRangeSum());
+            return roomCounts.size() - 1;
+        });
+        roomCounts.set(index, roomCounts.get(index) + 1);
+    }
+
+    void recordReservation(Reservation reservation) {
+        record(reservation, 1);
+    }
+
+    void recordCancellation(Reservation reservation) {
+        record(reservation, -1);
+    }
+
+    private void record(Reservation reservation, int sign) {
+        Room room = reservation.getRoom();
+        int index = categoryIndex.get(room.getCategory());
+        long from = reservation.getCheckInDate().toEpochDay();
+        long to = reservation.getCheckOutDate().toEpochDay();
+        roomNights.get(index).add(from, to, sign);
+        revenue.get(index).add(from, to, sign * room.getPricePerNight());
+    }
+
+    public Set<String> getCategories() {
+        return Collections.unmodifiableSet(categoryIndex.keySet());
+    }
+
+    public long getRoomNights(String category, LocalDate from, LocalDate to) {
+        Integer index = categoryIndex.get(category);
+        return index == null ? 0 : Math.round(roomNights.get(index).sum(from.toEpochDay(), to.toEpochDay()));
+    }
+
+    public double getRevenue(String category, LocalDate from, LocalDate to) {
+        Integer index = categoryIndex.get(category);
+        return index == null ? 0 : revenue.get(index).sum(from.toEpochDay(), to.toEpochDay());
+    }
+
+    /** Returns booked room-nights as a percentage of the room-nights the category could sell. */
+    public double getOccupancyPercent(String category, LocalDate from, LocalDate to) {
+        Integer index = categoryIndex.get(category);
+        long days = to.toEpochDay() - from.toEpochDay();
+        if (index == null || days <= 0) {
+            return 0;
+        }
+        return 100.0 * getRoomNights(category, from, to) / ((double) roomCounts.get(index) * days);
+    }
+}
+
+/**
+ * Range-add, range-sum array over days, built from two Fenwick trees over the
+ * day-to-day differences. Covers a window of days that grows (and is rebuilt
+ * in O(window)) when a stay falls outside it, up to {@code MAX_WINDOW} days.
+ */
+class DailyRangeSum {
+    private static final int MIN_WINDOW = 512;
+    static final int MAX_WINDOW = 1 << 17;
+
+    private long originDay;
+    private long firstDay = Long.MAX_VALUE;   // range of days holding non-zero differences
+    private long lastDay = Long.MIN_VALUE;
+    private double[] differences = new double[0];
+    private double[] tree;       // Fenwick tree over differences[i]
+    private double[] weighted;   // Fenwick tree over differences[i] * (i + 1)
+
+    /** Adds {@code value} to every day in [fromDay, toDay). */
+    public void add(long fromDay, long toDay, double value) {
+        if (toDay <= fromDay) {
+            return;
+        }
+        ensureWindow(fromDay, toDay);
+        addDifference((int) (fromDay - originDay), value);
+        addDifference((int) (toDay - originDay), -value);
+        firstDay = Math.min(firstDay, fromDay);
+        lastDay = Math.max(lastDay, toDay);
+    }
+
+    /** Returns the total over every day in [fromDay, toDay). */
+    public double sum(long fromDay, long toDay) {
+        if (toDay <= fromDay) {
+            return 0;
+        }
+        return prefixSum(toDay - 1) - prefixSum(fromDay - 1);
+    }
+
+    private void addDifference(int index, double value) {
+        differences[index] += value;
+        double weightedValue = value * (index + 1);
+        for (int i = index + 1; i <= tree.length; i += i & -i) {
+            tree[i - 1] += value;
+            weighted[i - 1] += weightedValue;
+        }
+    }
+
+    // Sum of the per-day values from the start of the window up to and including day
+    private double prefixSum(long day) {
+        if (day < originDay || differences.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(day - originDay, differences.length - 1);
+        double differenceSum = 0;
+        double weightedSum = 0;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            differenceSum += tree[i - 1];
+            weightedSum += weighted[i - 1];
+        }
+        return (index + 2) * differenceSum - weightedSum;
+    }
+
+    private void ensureWindow(long fromDay, long toDay) {
+        if (differences.length > 0 && fromDay >= originDay && toDay < originDay + differences.length) {
+            return;
+        }
+        // Size from the days in use, not the old window, so head room does not compound
+        long start = Math.min(firstDay, fromDay);
+        long end = Math.max(lastDay, toDay);
+        long span = end - start + 1;
+        int capacity = MIN_WINDOW;
+        while (capacity < span * 2) {
+            if (capacity == MAX_WINDOW) {
+                throw new IllegalArgumentException("Date range too wide: " + span + " days");
+            }
+            capacity *= 2;
+        }
+        // Centre the days in use so the window has head room in both directions
+        long newOrigin = start - (capacity - span) / 2;
+
+        double[] previous = differences;
+        long previousOrigin = originDay;
+        originDay = newOrigin;
+        differences = new double[capacity];
+        if (previous.length > 0) {
+            System.arraycopy(previous, (int) (firstDay - previousOrigin), differences,
+                    (int) (firstDay - newOrigin), (int) (lastDay - firstDay + 1));
+        }
+        rebuild();
+    }
+
+    private void rebuild() {
+        int n = differences.length;
+        tree = new double[n];
+        weighted = new double[n];
+        for (int i = 1; i <= n; i++) {
+            tree[i - 1] += differences[i - 1];
+            weighted[i - 1] += differences[i - 1] * i;
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                tree[parent - 1] += tree[i - 1];
+                weighted[parent - 1] += weighted[i - 1];
+            }
+        }
+    }
+}
+
+/**
+ * Registry of many properties, each split into one shard per room category.
+ * <p>
+ * Every shard is a self-contained {@link Hotel} with its own rooms and
+ * reservation book, guarded by its own read/write lock, so bookings in
+ * different shards never contend. Availability queries skip shards that
+ * cannot match the category or price filter, search the rest in parallel and
+ * merge the results by property name.
+ */
+class HotelRegistry {
+    private static final OperationTimer SEARCH_TIMER = Metrics.timer("hotelRegistry.searchAvailableRooms");
+
+    static final class Shard {
+        final String property;
+        final String category;
+        final Hotel hotel;
+        final double minPrice;
+        final double maxPrice;
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        Shard(String property, String category, List<Room> rooms) {
+            this.property = property;
+            this.category = category;
+            this.hotel = new Hotel(rooms);
+            double min = Double.MAX_VALUE;
+            double max = 0;
+            for (Room room : rooms) {
+                min = Math.min(min, room.getPricePerNight());
+                max = Math.max(max, room.getPricePerNight());
+            }
+            this.minPrice = min;
+            this.maxPrice = max;
+        }
+
+        boolean matches(String category, double minPrice, double maxPrice) {
+            return (category == null || this.category.equalsIgnoreCase(category))
+                && this.maxPrice >= minPrice && this.minPrice <= maxPrice;
+        }
+
+        List<Room> search(LocalDate checkIn, LocalDate checkOut, double minPrice, double maxPrice) {
+            lock.readLock().lock();
+            try {
+                return hotel.findAvailableRooms(checkIn, checkOut, minPrice, maxPrice);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    private final Map<String, Map<String, Shard>> shardsByProperty = new ConcurrentHashMap<>();
+    private final List<Shard> shards = new CopyOnWriteArrayList<>();
+    private final Map<Integer, Shard> shardsByReservation = new ConcurrentHashMap<>();
+
+    public void addProperty(String property, List<Room> rooms) {
+        Map<String, List<Room>> roomsByCategory = new LinkedHashMap<>();
+        for (Room room : rooms) {
+            roomsByCategory.computeIfAbsent(room.getCategory(), category -> new ArrayList<>()).add(room);
+        }
+
+        Map<String, Shard> propertyShards = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Room>> entry : roomsByCategory.entrySet()) {
+            propertyShards.put(entry.getKey(), new Shard(property, entry.getKey(), entry.getValue()));
+        }
+        if (shardsByProperty.putIfAbsent(property, propertyShards) != null) {
+            throw new IllegalArgumentException("Property already registered: " + property);
+        }
+        shards.addAll(propertyShards.values());
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public Map<String, List<Room>> searchAvailableRooms(LocalDate checkIn, LocalDate checkOut) {
+        return searchAvailableRooms(checkIn, checkOut, null, 0, Double.MAX_VALUE);
+    }
+
+    /**
+     * Returns available rooms grouped by property, each property's rooms in room
+     * number order; a null category matches every category.
+     */
+    public Map<String, List<Room>> searchAvailableRooms(LocalDate checkIn, LocalDate checkOut,
+                                                        String category, double minPrice, double maxPrice) {
+        long start = System.nanoTime();
+        List<Shard> candidates = new ArrayList<>();
+        for (Shard shard : shards) {
+            if (shard.matches(category, minPrice, maxPrice)) {
+                candidates.add(shard);
+            }
+        }
+
+        Map<String, List<Room>> results = candidates.parallelStream()
+            .map(shard -> Map.entry(shard.property, shard.search(checkIn, checkOut, minPrice, maxPrice)))
+            .filter(entry -> !entry.getValue().isEmpty())
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (left, right) -> {
+                List<Room> merged = new ArrayList<>(left);
+                merged.addAll(right);
+                return merged;
+            }, TreeMap::new));
+        // Shards are merged in whatever order they finish, so fix the order afterwards
+        for (List<Room> rooms : results.values()) {
+            rooms.sort(Comparator.comparingInt(Room::getRoomNumber));
+        }
+        SEARCH_TIMER.record(start);
+        return results;
+    }
+
+    public Reservation makeReservation(String property, Room room, String guestName,
+                                       LocalDate checkIn, LocalDate checkOut) {
+        Map<String, Shard> propertyShards = shardsByProperty.get(property);
+        Shard shard = propertyShards == null ? null : propertyShards.get(room.getCategory());
+        if (shard == null) {
+            return null;
+        }
+
+        shard.lock.writeLock().lock();
+        try {
+            Reservation reservation = shard.hotel.makeReservation(room, guestName, checkIn, checkOut);
+            if (reservation != null) {
+                shardsByReservation.put(reservation.getReservationId(), shard);
+            }
+            return reservation;
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    public Reservation getReservation(int reservationId) {
+        Shard shard = shardsByReservation.get(reservationId);
+        if (shard == null) {
+            return null;
+        }
+        shard.lock.readLock().lock();
+        try {
+            return shard.hotel.getReservation(reservationId);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+    }
+
+    public String getProperty(int reservationId) {
+        Shard shard = shardsByReservation.get(reservationId);
+        return shard == null ? null : shard.property;
+    }
+
+    public boolean cancelReservation(int reservationId) {
+        Shard shard = shardsByReservation.remove(reservationId);
+        if (shard == null) {
+            return false;
+        }
+        shard.lock.writeLock().lock();
+        try {
+            return shard.hotel.cancelReservation(reservationId);
+        } finally {
+            shard.lock.writeLock().unlock();
+        }
+    }
+
+    public boolean processPayment(int reservationId, double amount) {
+        Shard shard = shardsByReservation.get(reservationId);
+        if (shard == null) {
+            return false;
+        }
+        shard.lock.readLock().lock();
+        try {
+            return shard.hotel.processPayment(reservationId, amount);
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+    }
+}
+
+/**
+ * Non-interactive driver that streams commands from a file or stdin.
+ * <p>
+ * One command per line, fields separated by whitespace; blank lines and lines
+ * starting with {@code #} are skipped:
+ * <pre>
+ * search &lt;check-in&gt; &lt;check-out&gt;
+ * book &lt;room&gt; &lt;check-in&gt; &lt;check-out&gt; &lt;guest name&gt;
+ * view &lt;reservation id&gt;
+ * cancel &lt;reservation id&gt;
+ * pay &lt;reservation id&gt; &lt;amount&gt;
+ * report &lt;first night&gt; &lt;last night&gt;
+ * </pre>
+ * Results go to a single buffered writer, one line per command. With
+ * pipelining on, a reader thread parses ahead of execution; commands still run
+ * in input order because bookings and cancellations change what later
+ * commands see. A throughput and latency summary is written to stderr.
+ */
+class BatchCommandProcessor {
+    private static final int BATCH_SIZE = 1024;
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final List<Command> END_OF_INPUT = new ArrayList<>();
+
+    enum CommandType { SEARCH, BOOK, VIEW, CANCEL, PAY, REPORT, INVALID }
+
+    static final class Command {
+        final long lineNumber;
+        final CommandType type;
+        int number;
+        LocalDate checkIn;
+        LocalDate checkOut;
+        double amount;
+        String text;
+
+        Command(long lineNumber, CommandType type) {
+            this.lineNumber = lineNumber;
+            this.type = type;
+        }
+    }
+
+    private final Hotel hotel;
+    private final LatencyHistogram[] latencies = new LatencyHistogram[CommandType.values().length];
+
+    public BatchCommandProcessor(Hotel hotel) {
+        this.hotel = hotel;
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    public void run(Reader input, Writer output, boolean pipeline) throws IOException {
+        BufferedReader reader = new BufferedReader(input, IO_BUFFER_SIZE);
+        BufferedWriter writer = new BufferedWriter(output, IO_BUFFER_SIZE);
+        StringBuilder line = new StringBuilder(128);
+        long start = System.nanoTime();
+
+        try {
+            if (pipeline) {
+                runPipelined(reader, writer, line);
+            } else {
+                String text;
+                long lineNumber = 0;
+                while ((text = reader.readLine()) != null) {
+                    Command command = parse(++lineNumber, text);
+                    if (command != null) {
+                        execute(command, writer, line);
+                    }
+                }
+            }
+        } finally {
+            writer.flush();
+        }
+        printSummary(System.nanoTime() - start);
+    }
+
+    private void runPipelined(BufferedReader reader, BufferedWriter writer, StringBuilder line) throws IOException {
+        BlockingQueue<List<Command>> queue = new ArrayBlockingQueue<>(64);
+        Throwable[] parseFailure = new Throwable[1];
+        Thread parser = new Thread(() -> {
+            try {
+                List<Command> batch = new ArrayList<>(BATCH_SIZE);
+                String text;
+                long lineNumber = 0;
+                // Interrupted when the consumer gives up, so stop reading rather than fill the queue
+                while (!Thread.currentThread().isInterrupted() && (text = reader.readLine()) != null) {
+                    Command command = parse(++lineNumber, text);
+                    if (command != null) {
+                        batch.add(command);
+                        if (batch.size() == BATCH_SIZE) {
+                            queue.put(batch);
+                            batch = new ArrayList<>(BATCH_SIZE);
+                        }
+                    }
+                }
+                queue.put(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | RuntimeException | Error e) {
+                parseFailure[0] = e;
+            } finally {
+                signalEndOfInput(queue);
+            }
+        }, "batch-parser");
+        parser.setDaemon(true);
+        parser.start();
+
+        boolean drained = false;
+        try {
+            List<Command> batch;
+            while ((batch = queue.take()) != END_OF_INPUT) {
+                for (Command command : batch) {
+                    execute(command, writer, line);
+                }
+            }
+            drained = true;
+            parser.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while processing commands", e);
+        } finally {
+            if (!drained) {
+                // Leaving early (e.g. output closed): stop the parser and free the queue so its puts,
+                // including the end-of-input marker, cannot block forever
+                parser.interrupt();
+                queue.clear();
+            }
+        }
+        if (parseFailure[0] instanceof IOException e) {
+            throw e;
+        } else if (parseFailure[0] instanceof RuntimeException e) {
+            throw e;
+        } else if (parseFailure[0] instanceof Error e) {
+            throw e;
+        }
+    }
+
+    // The consumer only stops on the marker, so it must never be dropped, even when the queue is full
+    private static void signalEndOfInput(BlockingQueue<List<Command>> queue) {
+        boolean interrupted = Thread.interrupted();
+        while (true) {
+            try {
+                queue.put(END_OF_INPUT);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Command parse(long lineNumber, String text) {
+        String[] fields = tokenize(text, 5);
+        if (fields[0].isEmpty() || fields[0].startsWith("#")) {
+            return null;
+        }
+        try {
+            Command command;
+            switch (fields[0].toLowerCase()) {
+                case "search":
+                    command = new Command(lineNumber, CommandType.SEARCH);
+                    command.checkIn = parseDate(fields[1]);
+                    command.checkOut = parseDate(fields[2]);
+                    return command;
+                case "book":
+                    command = new Command(lineNumber, CommandType.BOOK);
+                    command.number = Integer.parseInt(fields[1]);
+                    command.checkIn = parseDate(fields[2]);
+                    command.checkOut = parseDate(fields[3]);
+                    command.text = fields[4];
+                    return command;
+                case "view":
+                    command = new Command(lineNumber, CommandType.VIEW);
+                    command.number = Integer.parseInt(fields[1]);
+                    return command;
+                case "cancel":
+                    command = new Command(lineNumber, CommandType.CANCEL);
+                    command.number = Integer.parseInt(fields[1]);
+                    return command;
+                case "pay":
+                    command = new Command(lineNumber, CommandType.PAY);
+                    command.number = Integer.parseInt(fields[1]);
+                    command.amount = Double.parseDouble(fields[2]);
+                    return command;
+                case "report":
+                    command = new Command(lineNumber, CommandType.REPORT);
+                    command.checkIn = parseDate(fields[1]);
+                    command.checkOut = parseDate(fields[2]).plusDays(1);
+                    return command;
+                default:
+                    return invalid(lineNumber, "unknown command '" + fields[0] + "'");
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return invalid(lineNumber, "missing arguments for '" + fields[0] + "'");
+        } catch (RuntimeException e) {
+            return invalid(lineNumber, e.getMessage());
+        }
+    }
+
+    // Whitespace split without the regex engine; the last field keeps the rest of the line
+    private static String[] tokenize(String text, int limit) {
+        String[] fields = new String[limit];
+        int count = 0;
+        int i = 0;
+        int length = text.length();
+        while (count < limit) {
+            while (i < length && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            int start = i;
+            if (count == limit - 1) {
+                int end = length;
+                while (Character.isWhitespace(text.charAt(end - 1))) {
+                    end--;
+                }
+                fields[count++] = text.substring(start, end);
+                break;
+            }
+            while (i < length && !Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            fields[count++] = text.substring(start, i);
+        }
+        if (count == 0) {
+            return new String[] { "" };
+        }
+        return count == limit ? fields : Arrays.copyOf(fields, count);
+    }
+
+    // Fast path for ISO yyyy-MM-dd; anything else goes through the full parser
+    private static LocalDate parseDate(String text) {
+        if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 7);
+            int day = digits(text, 8, 10);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        return LocalDate.parse(text);
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static Command invalid(long lineNumber, String message) {
+        Command command = new Command(lineNumber, CommandType.INVALID);
+        command.text = message;
+        return command;
+    }
+
+    private void execute(Command command, BufferedWriter writer, StringBuilder line) throws IOException {
+        long start = System.nanoTime();
+        line.setLength(0);
+        try {
+            dispatch(command, line);
+        } catch (RuntimeException e) {
+            // One bad command must not abort the rest of the batch
+            line.setLength(0);
+            line.append("ERROR line ").append(command.lineNumber).append(": ")
+                .append(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+        line.append('\n');
+        writer.append(line);
+        latencies[command.type.ordinal()].record(System.nanoTime() - start);
+    }
+
+    private void dispatch(Command command, StringBuilder line) {
+        switch (command.type) {
+            case SEARCH -> {
+                line.append("AVAILABLE");
+                List<Room> rooms = hotel.searchAvailableRooms(command.checkIn, command.checkOut);
+                for (Room room : rooms) {
+                    line.append(' ').append(room.getRoomNumber());
+                }
+                if (rooms.isEmpty()) {
+                    line.append(" none");
+                }
+            }
+            case BOOK -> {
+                Room room = hotel.getRoom(command.number);
+                Reservation reservation = room == null ? null
+                        : hotel.makeReservation(room, command.text, command.checkIn, command.checkOut);
+                if (reservation != null) {
+                    line.append("BOOKED ").append(reservation.getReservationId())
+                        .append(' ').append(reservation.getTotalPrice());
+                } else {
+                    line.append("FAILED book line ").append(command.lineNumber);
+                }
+            }
+            case VIEW -> {
+                Reservation reservation = hotel.getReservation(command.number);
+                line.append(reservation != null ? reservation.toString() : "NOT FOUND " + command.number);
+            }
+            case CANCEL -> {
+                if (hotel.cancelReservation(command.number)) {
+                    line.append("CANCELLED ").append(command.number);
+                } else {
+                    line.append("FAILED cancel ").append(command.number);
+                }
+            }
+            case PAY -> {
+                if (hotel.processPayment(command.number, command.amount)) {
+                    line.append("PAID ").append(command.number).append(' ').append(command.amount);
+                } else {
+                    line.append("FAILED pay ").append(command.number);
+                }
+            }
+            case REPORT -> {
+                OccupancyLedger ledger = hotel.getOccupancyLedger();
+                line.append("REPORT");
+                for (String category : ledger.getCategories()) {
+                    line.append(' ').append(category)
+                        .append(' ').append(ledger.getRoomNights(category, command.checkIn, command.checkOut))
+                        .append(' ').append(String.format("%.2f%%", ledger.getOccupancyPercent(category, command.checkIn, command.checkOut)))
+                        .append(' ').append(String.format("%.2f", ledger.getRevenue(category, command.checkIn, command.checkOut)));
+                }
+            }
+            case INVALID -> line.append("ERROR line ").append(command.lineNumber).append(": ").append(command.text);
+        }
+    }
+
+    private void printSummary(long elapsedNanos) {
+        long total = 0;
+        for (LatencyHistogram histogram : latencies) {
+            total += histogram.getCount();
+        }
+        double seconds = elapsedNanos / 1e9;
+        System.err.printf("Processed %d commands in %.3f s (%.0f commands/s)%n",
+                total, seconds, seconds > 0 ? total / seconds : 0);
+        System.err.println("Latency per command (ns): count / p50 / p99 / max");
+        for (CommandType type : CommandType.values()) {
+            LatencyHistogram histogram = latencies[type.ordinal()];
+            if (histogram.getCount() > 0) {
+                System.err.printf("  %-7s %d / %d / %d / %d%n", type.name().toLowerCase(), histogram.getCount(),
+                        histogram.getPercentile(50), histogram.getPercentile(99), histogram.getMax());
+            }
+        }
+    }
+}
+
+public class HotelReservationSystem {
+    private static Hotel hotel = new Hotel();
+    private static Scanner scanner = new Scanner(System.in);
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            runBatch(args);
+            return;
+        }
+
+        while (true) {
+            System.out.println("\n--- Hotel Reservation System ---");
+            System.out.println("1. Search for available rooms");
+            System.out.println("2. Make a reservation");
+            System.out.println("3. View reservation details");
+            System.out.println("4. Cancel reservation");
+            System.out.println("5. Process payment");
+            System.out.println("6. Occupancy and revenue report");
+            System.out.println("7. Exit");
+            System.out.print("Enter your choice: ");
+
+            int choice = scanner.nextInt();
+            scanner.nextLine(); // Consume newline
+
+            switch (choice) {
+                case 1:
+                    searchRooms();
+                    break;
+                case 2:
+                    makeReservation();
+                    break;
+                case 3:
+                    viewReservation();
+                    break;
+                case 4:
+                    cancelReservation();
+                    break;
+                case 5:
+                    processPayment();
+                    break;
+                case 6:
+                    occupancyReport();
+                    break;
+                case 7:
+                    System.out.println("Thank you for using the Hotel Reservation System. Goodbye!");
+                    System.exit(0);
+                default:
+                    System.out.println("Invalid choice. Please try again.");
+            }
+        }
+    }
+
+    // Usage: --batch [--pipeline] [command file]; commands are read from stdin when no file is given
+    private static void runBatch(String[] args) throws IOException {
+        boolean pipeline = false;
+        String file = null;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--pipeline")) {
+                pipeline = true;
+            } else {
+                file = args[i];
+            }
+        }
+
+        Reader input = file == null ? new InputStreamReader(System.in) : new FileReader(file);
+        try (input) {
+            Writer output = new OutputStreamWriter(new FileOutputStream(FileDescriptor.out));
+            new BatchCommandProcessor(hotel).run(input, output, pipeline);
+        }
+    }
+
+    private static void searchRooms() {
+        System.out.print("Enter check-in date (YYYY-MM-DD): ");
+        LocalDate checkIn = LocalDate.parse(scanner.nextLine());
+        System.out.print("Enter check-out date (YYYY-MM-DD): ");
+        LocalDate checkOut = LocalDate.parse(scanner.nextLine());
+
+        List<Room> availableRooms = hotel.searchAvailableRooms(checkIn, checkOut);
+        if (availableRooms.isEmpty()) {
+            System.out.println("No rooms available for the selected dates.");
+        } else {
+            System.out.println("Available rooms:");
+            for (Room room : availableRooms) {
+                System.out.println(room);
+            }
+        }
+    }
+
+    private static void makeReservation() {
+        System.out.print("Enter check-in date (YYYY-MM-DD): ");
+        LocalDate checkIn = LocalDate.parse(scanner.nextLine());
+        System.out.print("Enter check-out date (YYYY-MM-DD): ");
+        LocalDate checkOut = LocalDate.parse(scanner.nextLine());
+
+        List<Room> availableRooms = hotel.searchAvailableRooms(checkIn, checkOut);
+        if (availableRooms.isEmpty()) {
+            System.out.println("No rooms available for the selected dates.");
+            return;
+        }
+
+        System.out.println("Available rooms:");
+        for (int i = 0; i < availableRooms.size(); i++) {
+            System.out.println((i + 1) + ". " + availableRooms.get(i));
+        }
+
+        System.out.print("Select a room (enter the number): ");
+        int roomChoice = scanner.nextInt();
+        scanner.nextLine(); // Consume newline
+
+        if (roomChoice < 1 || roomChoice > availableRooms.size()) {
+            System.out.println("Invalid room selection.");
+            return;
+        }
+
+        Room selectedRoom = availableRooms.get(roomChoice - 1);
+
+        System.out.print("Enter guest name: ");
+        String guestName = scanner.nextLine();
+
+        Reservation reservation = hotel.makeReservation(selectedRoom, guestName, checkIn, checkOut);
+        if (reservation != null) {
+            System.out.println("Reservation created successfully:");
+            System.out.println(reservation);
+        } else {
+            System.out.println("Failed to create reservation.");
+        }
+    }
+
+    private static void viewReservation() {
+        System.out.print("Enter reservation ID: ");
+        int reservationId = scanner.nextInt();
+        scanner.nextLine(); // Consume newline
+
+        Reservation reservation = hotel.getReservation(reservationId);
+        if (reservation != null) {
+            System.out.println(reservation);
+        } else {
+            System.out.println("Reservation not found.");
+        }
+    }
+
+    private static void cancelReservation() {
+        System.out.print("Enter reservation ID to cancel: ");
+        int reservationId = scanner.nextInt();
+        scanner.nextLine(); // Consume newline
+
+        boolean cancelled = hotel.cancelReservation(reservationId);
+        if (cancelled) {
+            System.out.println("Reservation " + reservationId + " has been cancelled.");
+        } else {
+            System.out.println("Failed to cancel reservation. Please check the reservation ID.");
+        }
+    }
+
+    private static void occupancyReport() {
+        System.out.print("Enter first night (YYYY-MM-DD): ");
+        LocalDate from = LocalDate.parse(scanner.nextLine());
+        System.out.print("Enter last night (YYYY-MM-DD): ");
+        LocalDate to = LocalDate.parse(scanner.nextLine()).plusDays(1);
+
+        OccupancyLedger ledger = hotel.getOccupancyLedger();
+        System.out.println("Occupancy and revenue from " + from + " to " + to.minusDays(1) + ":");
+        for (String category : ledger.getCategories()) {
+            System.out.printf("%s: %d room-nights, %.2f%% occupancy, $%.2f revenue%n", category,
+                    ledger.getRoomNights(category, from, to),
+                    ledger.getOccupancyPercent(category, from, to),
+                    ledger.getRevenue(category, from, to));
+        }
+    }
+
+    private static void processPayment() {
+        System.out.print("Enter reservation ID for payment: ");
+        int reservationId = scanner.nextInt();
+        scanner.nextLine(); // Consume newline
+
+        Reservation reservation = hotel.getReservation(reservationId);
+        if (reservation == null) {
+            System.out.println("Reservation not found.");
+            return;
+        }
+
+        System.out.println("Total amount due: $" + reservation.getTotalPrice());
+        System.out.print("Enter payment amount: $");
+        double amount = scanner.nextDouble();
+        scanner.nextLine(); // Consume newline
+
+        boolean paymentProcessed = hotel.processPayment(reservationId, amount);
+        if (paymentProcessed) {
+            System.out.println("Payment of $" + amount + " processed successfully for reservation " + reservationId);
+            System.out.println("Payment processed successfully.");
+        } else {
+            System.out.println("Payment processing failed. Please check the amount and try again.");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package codealpha;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide registry of operation timers and counters.
+ * <p>
+ * Hot paths grab a {@link OperationTimer} once into a static field and call
+ * {@code record(start)} with a {@link System#nanoTime()} taken on entry.
+ * Reports go to a text file on demand via {@link #dump(Path)}, or every few
+ * seconds when the JVM is started with {@code -Dmetrics.file=<path>}
+ * ({@code -Dmetrics.periodSeconds} sets the period, default 10). Operations
+ * slower than {@code -Dmetrics.slowThresholdMicros} (default 1000) are also
+ * emitted as {@code codealpha.SlowOperation} JFR events.
+ */
+final class Metrics {
+    static final long SLOW_THRESHOLD_NANOS =
+        TimeUnit.MICROSECONDS.toNanos(Long.getLong("metrics.slowThresholdMicros", 1000));
+
+    private static final Map<String, OperationTimer> timers = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private static final long startNanos = System.nanoTime();
+    // Timer counts at the previous snapshot, so ops/s reflects the latest interval rather than the lifetime
+    private static final Map<String, Long> previousCounts = new HashMap<>();
+    private static long previousSnapshotNanos = startNanos;
+    private static ScheduledExecutorService dumper;
+    private static volatile Path dumpFile;
+    private static boolean shutdownHookAdded;
+
+    static {
+        String file = System.getProperty("metrics.file");
+        if (file != null) {
+            startPeriodicDump(Paths.get(file), Long.getLong("metrics.periodSeconds", 10));
+        }
+    }
+
+    private Metrics() {
+    }
+
+    public static OperationTimer timer(String name) {
+        return timers.computeIfAbsent(name, OperationTimer::new);
+    }
+
+    public static LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Renders every timer and counter; counters named {@code x.hit} and {@code x.miss} also get a hit rate.
+     * A timer's {@code ops/s} is its rate since the previous snapshot, or since startup for the first one.
+     */
+    public static synchronized String snapshot() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - startNanos) / 1e9;
+        double intervalSeconds = Math.max(now - previousSnapshotNanos, 1) / 1e9;
+        previousSnapshotNanos = now;
+        StringWriter text = new StringWriter();
+        PrintWriter out = new PrintWriter(text);
+        out.printf("# metrics at %s (uptime %.1f s, rates over the last %.1f s), latencies in ns%n",
+            LocalDateTime.now(), elapsedSeconds, intervalSeconds);
+
+        for (OperationTimer timer : new TreeMap<>(timers).values()) {
+            LatencyHistogram histogram = timer.snapshot();
+            long previous = previousCounts.getOrDefault(timer.getName(), 0L);
+            previousCounts.put(timer.getName(), histogram.getCount());
+            out.printf("%s count=%d ops/s=%.1f mean=%.0f p50=%d p90=%d p99=%d p999=%d max=%d%n",
+                timer.getName(), histogram.getCount(), (histogram.getCount() - previous) / intervalSeconds,
+                histogram.getMean(), histogram.getPercentile(50), histogram.getPercentile(90),
+                histogram.getPercentile(99), histogram.getPercentile(99.9), histogram.getMax());
+        }
+
+        Map<String, LongAdder> sortedCounters = new TreeMap<>(counters);
+        for (Map.Entry<String, LongAdder> entry : sortedCounters.entrySet()) {
+            out.printf("%s value=%d%n", entry.getKey(), entry.getValue().sum());
+        }
+        for (Map.Entry<String, LongAdder> entry : sortedCounters.entrySet()) {
+            String name = entry.getKey();
+            if (name.endsWith(".hit")) {
+                String prefix = name.substring(0, name.length() - ".hit".length());
+                long hits = entry.getValue().sum();
+                LongAdder misses = sortedCounters.get(prefix + ".miss");
+                long total = hits + (misses == null ? 0 : misses.sum());
+                out.printf("%s.hitRate value=%.4f%n", prefix, total == 0 ? 0 : (double) hits / total);
+            }
+        }
+        out.flush();
+        return text.toString();
+    }
+
+    public static void dump(Path file) throws IOException {
+        // Write then rename so readers never see a half-written report
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, snapshot().getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static synchronized void startPeriodicDump(Path file, long periodSeconds) {
+        if (dumper != null) {
+            dumper.shutdownNow();
+        }
+        dumper = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> dumpQuietly(file), periodSeconds, periodSeconds, TimeUnit.SECONDS);
+
+        // One hook per process, writing to whichever file was configured last
+        dumpFile = file;
+        if (!shutdownHookAdded) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> dumpQuietly(dumpFile), "metrics-final-dump"));
+            shutdownHookAdded = true;
+        }
+    }
+
+    private static void dumpQuietly(Path file) {
+        try {
+            dump(file);
+        } catch (IOException e) {
+            System.err.println("Could not write metrics: " + e.getMessage());
+        }
+    }
+}
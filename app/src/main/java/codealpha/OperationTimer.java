@@ -0,0 +1,109 @@
+package codealpha;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency recorder for one named operation.
+ * <p>
+ * Each thread records into its own bucket array with plain single-writer
+ * stores (no CAS, no lock); {@link #snapshot()} merges every thread's buckets
+ * on read. Buckets use the same log-linear layout as {@link LatencyHistogram}.
+ * Once a thread has exited, its buckets are folded into one retired histogram
+ * the next time a thread registers or a snapshot is taken, so short-lived
+ * threads do not pile up recorders.
+ */
+final class OperationTimer {
+    private final String name;
+    private final List<Recorder> recorders = new ArrayList<>();          // guarded by this
+    private final LatencyHistogram retired = new LatencyHistogram();    // guarded by this
+    private final ThreadLocal<Recorder> localRecorder = ThreadLocal.withInitial(this::register);
+
+    OperationTimer(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Records the time elapsed since {@code startNanos}, a value from {@link System#nanoTime()}. */
+    public void record(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        localRecorder.get().record(elapsed);
+        if (elapsed >= Metrics.SLOW_THRESHOLD_NANOS) {
+            SlowOperationEvent.emit(name, elapsed);
+        }
+    }
+
+    public synchronized LatencyHistogram snapshot() {
+        retireDeadRecorders();
+        LatencyHistogram merged = new LatencyHistogram();
+        merged.add(retired);
+        for (Recorder recorder : recorders) {
+            recorder.mergeInto(merged);
+        }
+        return merged;
+    }
+
+    synchronized int getRecorderCount() {
+        return recorders.size();
+    }
+
+    private synchronized Recorder register() {
+        retireDeadRecorders();
+        Recorder recorder = new Recorder(Thread.currentThread());
+        recorders.add(recorder);
+        return recorder;
+    }
+
+    // A thread that has exited cannot record again, so its counts are final
+    private void retireDeadRecorders() {
+        for (Iterator<Recorder> iterator = recorders.iterator(); iterator.hasNext(); ) {
+            Recorder recorder = iterator.next();
+            if (!recorder.isOwnerAlive()) {
+                recorder.mergeInto(retired);
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Recorder {
+        private final WeakReference<Thread> owner;
+        private final AtomicLongArray counts = new AtomicLongArray(LatencyHistogram.BUCKET_COUNT);
+        private final AtomicLongArray totals = new AtomicLongArray(2); // sum, max
+
+        Recorder(Thread owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+
+        // Seeing the thread terminated also makes all of its writes visible
+        boolean isOwnerAlive() {
+            Thread thread = owner.get();
+            return thread != null && thread.isAlive();
+        }
+
+        // Only the owning thread writes, so a read-then-lazySet is enough and skips the CAS
+        void record(long value) {
+            int index = LatencyHistogram.indexOf(value);
+            counts.lazySet(index, counts.get(index) + 1);
+            totals.lazySet(0, totals.get(0) + value);
+            if (value > totals.get(1)) {
+                totals.lazySet(1, value);
+            }
+        }
+
+        void mergeInto(LatencyHistogram histogram) {
+            for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+                long count = counts.get(i);
+                if (count > 0) {
+                    histogram.addBucket(i, count);
+                }
+            }
+            histogram.addTotals(totals.get(0), totals.get(1));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package codealpha;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("codealpha.SlowOperation")
+@Label("Slow Operation")
+@Category("CodeAlpha")
+@Description("An instrumented operation that took longer than metrics.slowThresholdMicros")
+class SlowOperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    // JFR reserves "duration" for the event's own begin/end span
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+
+    static void emit(String operation, long latency) {
+        SlowOperationEvent event = new SlowOperationEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.latency = latency;
+            event.commit();
+        }
+    }
+}
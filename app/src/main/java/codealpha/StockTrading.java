@@ -0,0 +1,585 @@
+package codealpha;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+public class StockTrading{
+    private static final SymbolTable stocks = new SymbolTable();
+    private static final Map<String, User> users = new HashMap<>();
+    private static final Scanner scanner = new Scanner(System.in);
+    private static final Random random = new Random();
+
+    public static void main(String[] args) {
+        initializeStocks();
+        startMarketSimulation();
+
+        while (true) {
+            System.out.println("\n1. Register User");
+            System.out.println("2. Login");
+            System.out.println("3. Exit");
+            System.out.print("Choose an option: ");
+
+            int choice = scanner.nextInt();
+            scanner.nextLine(); // Consume newline
+
+            switch (choice) {
+                case 1:
+                    registerUser();
+                    break;
+                case 2:
+                    login();
+                    break;
+                case 3:
+                    System.out.println("Exiting program. Goodbye!");
+                    scanner.close();
+                    System.exit(0);
+                default:
+                    System.out.println("Invalid option. Please try again.");
+            }
+        }
+    }
+
+    private static void initializeStocks() {
+        stocks.register("AAPL", "Apple Inc.", 150.0);
+        stocks.register("GOOGL", "Alphabet Inc.", 2800.0);
+        stocks.register("AMZN", "Amazon.com Inc.", 3300.0);
+        stocks.register("MSFT", "Microsoft Corporation", 300.0);
+        stocks.register("TSLA", "Tesla, Inc.", 700.0);
+    }
+
+    private static void startMarketSimulation() {
+        Timer timer = new Timer();
+        timer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                updateStockPrices();
+            }
+        }, 0, 5000); // Update every 5 seconds
+    }
+
+    private static void updateStockPrices() {
+        for (int id = 0; id < stocks.size(); id++) {
+            Stock stock = stocks.get(id);
+            double change = (random.nextDouble() - 0.5) * 5; // Random change between -2.5% and 2.5%
+            stock.updatePrice(change);
+        }
+    }
+
+    private static void registerUser() {
+        System.out.print("Enter username: ");
+        String username = scanner.nextLine();
+        System.out.print("Enter initial balance: ");
+        double balance = scanner.nextDouble();
+        scanner.nextLine(); // Consume newline
+
+        users.put(username, new User(username, balance, stocks));
+        System.out.println("User registered successfully.");
+    }
+
+    private static void login() {
+        System.out.print("Enter username: ");
+        String username = scanner.nextLine();
+
+        User user = users.get(username);
+        if (user == null) {
+            System.out.println("User not found.");
+            return;
+        }
+
+        userMenu(user);
+    }
+
+    private static void userMenu(User user) {
+        while (true) {
+            System.out.println("\n1. View Market Data");
+            System.out.println("2. View Portfolio");
+            System.out.println("3. Buy Stock");
+            System.out.println("4. Sell Stock");
+            System.out.println("5. View Performance");
+            System.out.println("6. Logout");
+            System.out.print("Choose an option: ");
+
+            int choice = scanner.nextInt();
+            scanner.nextLine(); // Consume newline
+
+            switch (choice) {
+                case 1 -> viewMarketData();
+                case 2 -> user.viewPortfolio();
+                case 3 -> buyStock(user);
+                case 4 -> sellStock(user);
+                case 5 -> user.viewPerformance();
+                case 6 -> {
+                    return;
+                }
+                default -> System.out.println("Invalid option. Please try again.");
+            }
+        }
+    }
+
+    private static void viewMarketData() {
+        System.out.println("Current Market Data:");
+        for (int id = 0; id < stocks.size(); id++) {
+            System.out.println(stocks.get(id));
+        }
+    }
+
+    private static void buyStock(User user) {
+        System.out.print("Enter stock symbol: ");
+        String symbol = scanner.nextLine().trim();
+        System.out.print("Enter quantity: ");
+        int quantity = scanner.nextInt();
+        scanner.nextLine(); // Consume newline
+
+        Stock stock = stocks.find(symbol);
+        if (stock == null) {
+            System.out.println("Stock not found.");
+            return;
+        }
+
+        double totalCost = stock.getPrice() * quantity;
+        if (user.getBalance() < totalCost) {
+            System.out.println("Insufficient funds.");
+            return;
+        }
+
+        user.buyStock(stock, quantity);
+        System.out.println("Stock purchased successfully.");
+    }
+
+    private static void sellStock(User user) {
+        System.out.print("Enter stock symbol: ");
+        String symbol = scanner.nextLine().trim();
+        System.out.print("Enter quantity: ");
+        int quantity = scanner.nextInt();
+        scanner.nextLine(); // Consume newline
+
+        Stock stock = stocks.find(symbol);
+        if (stock == null) {
+            System.out.println("Stock not found.");
+            return;
+        }
+
+        if (user.sellStock(stock, quantity)) {
+            System.out.println("Stock sold successfully.");
+        } else {
+            System.out.println("Insufficient stocks to sell.");
+        }
+    }
+}
+
+/**
+ * Interns ticker symbols to dense int ids, starting at zero.
+ * <p>
+ * Lookups are case-insensitive and hash the characters in place, so resolving
+ * a user-typed symbol does not allocate an upper-cased copy. Ids index
+ * straight into the stock array and are what portfolios key positions by.
+ * Current prices live here in an id-indexed array, so valuing a portfolio
+ * reads primitives instead of visiting each {@link Stock}.
+ */
+class SymbolTable {
+    private Stock[] stocksById = new Stock[16];
+    private double[] pricesById = new double[16];
+    private int[] slots = newSlots(32); // open addressing: stock id, or -1 when empty
+    private int size;
+
+    public Stock register(String symbol, String name, double price) {
+        if (find(symbol) != null) {
+            throw new IllegalArgumentException("Symbol already registered: " + symbol);
+        }
+        if (size == stocksById.length) {
+            stocksById = Arrays.copyOf(stocksById, size * 2);
+            pricesById = Arrays.copyOf(pricesById, size * 2);
+        }
+        pricesById[size] = price;
+        Stock stock = new Stock(this, size, symbol.toUpperCase(), name, price);
+        stocksById[size++] = stock;
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        } else {
+            insertSlot(stock);
+        }
+        return stock;
+    }
+
+    public Stock find(CharSequence symbol) {
+        int mask = slots.length - 1;
+        for (int slot = hash(symbol) & mask; slots[slot] != -1; slot = (slot + 1) & mask) {
+            Stock stock = stocksById[slots[slot]];
+            if (matches(stock.getSymbol(), symbol)) {
+                return stock;
+            }
+        }
+        return null;
+    }
+
+    public Stock get(int id) {
+        return stocksById[id];
+    }
+
+    public double getPrice(int id) {
+        return pricesById[id];
+    }
+
+    void setPrice(int id, double price) {
+        pricesById[id] = price;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void insertSlot(Stock stock) {
+        int mask = slots.length - 1;
+        int slot = hash(stock.getSymbol()) & mask;
+        while (slots[slot] != -1) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = stock.getId();
+    }
+
+    private void rehash(int capacity) {
+        slots = newSlots(capacity);
+        for (int id = 0; id < size; id++) {
+            insertSlot(stocksById[id]);
+        }
+    }
+
+    private static int[] newSlots(int capacity) {
+        int[] slots = new int[capacity];
+        Arrays.fill(slots, -1);
+        return slots;
+    }
+
+    private static int hash(CharSequence symbol) {
+        int h = 0;
+        for (int i = 0; i < symbol.length(); i++) {
+            h = 31 * h + Character.toUpperCase(symbol.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(String symbol, CharSequence candidate) {
+        if (symbol.length() != candidate.length()) {
+            return false;
+        }
+        for (int i = 0; i < symbol.length(); i++) {
+            if (symbol.charAt(i) != Character.toUpperCase(candidate.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
+
+class Stock {
+    private final SymbolTable symbols; // Holds the current price
+    private final int id;
+    private final String symbol;
+    private final String name;
+    private final double openPrice;
+    private final List<Double> priceHistory = new ArrayList<>();
+
+    Stock(SymbolTable symbols, int id, String symbol, String name, double price) {
+        this.symbols = symbols;
+        this.id = id;
+        this.symbol = symbol;
+        this.name = name;
+        this.openPrice = price;
+        this.priceHistory.add(price);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public double getPrice() {
+        return symbols.getPrice(id);
+    }
+
+    public void updatePrice(double change) {
+        double price = getPrice() + change;
+        if (price < 0) price = 0.01; // Prevent negative prices
+        symbols.setPrice(id, price);
+        priceHistory.add(price);
+    }
+
+    public double getPercentChange() {
+        return ((getPrice() - openPrice) / openPrice) * 100;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s): $%.2f (%.2f%%)", symbol, name, getPrice(), getPercentChange());
+    }
+
+    public List<Double> getPriceHistory() {
+        return priceHistory;
+    }
+}
+
+class User {
+    private static final OperationTimer BUY_TIMER = Metrics.timer("trading.buyStock");
+    private static final OperationTimer SELL_TIMER = Metrics.timer("trading.sellStock");
+
+    private final String username;
+    private double balance;
+    private final SymbolTable symbols;
+    private final PositionMap portfolio = new PositionMap();
+    private final List<Transaction> transactions = new ArrayList<>();
+
+    public User(String username, double balance, SymbolTable symbols) {
+        this.username = username;
+        this.balance = balance;
+        this.symbols = symbols;
+    }
+
+    public double getBalance() {
+        return balance;
+    }
+
+    public void buyStock(Stock stock, int quantity) {
+        long start = System.nanoTime();
+        double totalCost = stock.getPrice() * quantity;
+        balance -= totalCost;
+        portfolio.buy(stock, quantity, totalCost);
+        transactions.add(new Transaction(stock, quantity, stock.getPrice(), TransactionType.BUY));
+        BUY_TIMER.record(start);
+    }
+
+    public boolean sellStock(Stock stock, int quantity) {
+        long start = System.nanoTime();
+        try {
+            if (!portfolio.sell(stock, quantity)) {
+                return false;
+            }
+            double totalEarnings = stock.getPrice() * quantity;
+            balance += totalEarnings;
+            transactions.add(new Transaction(stock, quantity, stock.getPrice(), TransactionType.SELL));
+            return true;
+        } finally {
+            SELL_TIMER.record(start);
+        }
+    }
+
+    public long getQuantity(Stock stock) {
+        return portfolio.getQuantity(stock);
+    }
+
+    public void viewPortfolio() {
+        System.out.println("Current Balance: $" + String.format("%.2f", balance));
+        System.out.println("Portfolio:");
+        for (int slot = portfolio.firstSlot(); slot >= 0; slot = portfolio.nextSlot(slot)) {
+            Stock stock = symbols.get(portfolio.idAt(slot));
+            long quantity = portfolio.quantityAt(slot);
+            double totalValue = stock.getPrice() * quantity;
+            System.out.printf("%s: %d shares (Total Value: $%.2f)\n",
+                    stock.getSymbol(), quantity, totalValue);
+        }
+    }
+
+    public void viewPerformance() {
+        double totalInvestment = getTotalInvestment();
+        double currentValue = getPortfolioValue();
+        double performancePercent = ((currentValue - totalInvestment) / totalInvestment) * 100;
+        System.out.printf("Total Investment: $%.2f\n", totalInvestment);
+        System.out.printf("Current Value: $%.2f\n", currentValue);
+        System.out.printf("Performance: %.2f%%\n", performancePercent);
+    }
+
+    public double getPortfolioValue() {
+        double value = 0;
+        for (int slot = portfolio.firstSlot(); slot >= 0; slot = portfolio.nextSlot(slot)) {
+            value += symbols.getPrice(portfolio.idAt(slot)) * portfolio.quantityAt(slot);
+        }
+        return value;
+    }
+
+    // Current holdings valued at the average price paid across all buys of each stock
+    public double getTotalInvestment() {
+        double investment = 0;
+        for (int slot = portfolio.firstSlot(); slot >= 0; slot = portfolio.nextSlot(slot)) {
+            investment += portfolio.averagePurchasePriceAt(slot) * portfolio.quantityAt(slot);
+        }
+        return investment;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
+
+/**
+ * Open-addressing map from stock id to a position, stored in parallel
+ * primitive arrays; prices are looked up by id in the {@link SymbolTable}
+ * rather than kept per position. Besides the share count each position keeps the total
+ * cost and quantity of every buy, so the average purchase price is O(1)
+ * instead of a scan of the transaction history. Positions sold down to zero
+ * keep their slot, as the portfolio view has always listed them.
+ */
+class PositionMap {
+    private static final int EMPTY = -1;
+
+    private int[] ids = newIds(8);
+    private long[] quantities = new long[8];
+    private double[] boughtCosts = new double[8];
+    private long[] boughtQuantities = new long[8];
+    private int size;
+
+    public void buy(Stock stock, long quantity, double totalCost) {
+        int slot = slotFor(stock);
+        if (slot < 0) {
+            slot = insert(stock.getId());
+        }
+        quantities[slot] += quantity;
+        boughtCosts[slot] += totalCost;
+        boughtQuantities[slot] += quantity;
+    }
+
+    public boolean sell(Stock stock, long quantity) {
+        int slot = slotFor(stock);
+        long held = slot < 0 ? 0 : quantities[slot];
+        if (held < quantity) {
+            return false;
+        }
+        if (slot >= 0) {
+            quantities[slot] = held - quantity;
+        }
+        return true;
+    }
+
+    public long getQuantity(Stock stock) {
+        int slot = slotFor(stock);
+        return slot < 0 ? 0 : quantities[slot];
+    }
+
+    public int firstSlot() {
+        return nextSlot(-1);
+    }
+
+    public int nextSlot(int slot) {
+        for (int i = slot + 1; i < ids.length; i++) {
+            if (ids[i] != EMPTY) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int idAt(int slot) {
+        return ids[slot];
+    }
+
+    public long quantityAt(int slot) {
+        return quantities[slot];
+    }
+
+    public double averagePurchasePriceAt(int slot) {
+        return boughtQuantities[slot] > 0 ? boughtCosts[slot] / boughtQuantities[slot] : 0;
+    }
+
+    private int slotFor(Stock stock) {
+        int id = stock.getId();
+        int mask = ids.length - 1;
+        for (int slot = mix(id) & mask; ids[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int insert(int id) {
+        if ((size + 1) * 4 > ids.length * 3) {
+            grow();
+        }
+        int mask = ids.length - 1;
+        int slot = mix(id) & mask;
+        while (ids[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        ids[slot] = id;
+        size++;
+        return slot;
+    }
+
+    private void grow() {
+        int[] oldIds = ids;
+        long[] oldQuantities = quantities;
+        double[] oldCosts = boughtCosts;
+        long[] oldBought = boughtQuantities;
+
+        int capacity = oldIds.length * 2;
+        ids = newIds(capacity);
+        quantities = new long[capacity];
+        boughtCosts = new double[capacity];
+        boughtQuantities = new long[capacity];
+        size = 0;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int slot = insert(oldIds[i]);
+                quantities[slot] = oldQuantities[i];
+                boughtCosts[slot] = oldCosts[i];
+                boughtQuantities[slot] = oldBought[i];
+            }
+        }
+    }
+
+    private static int[] newIds(int capacity) {
+        int[] ids = new int[capacity];
+        Arrays.fill(ids, EMPTY);
+        return ids;
+    }
+
+    private static int mix(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
+
+class Transaction {
+    private final Stock stock;
+    private final int quantity;
+    private final double price;
+    private final TransactionType type;
+    private final LocalDateTime timestamp;
+
+    public Transaction(Stock stock, int quantity, double price, TransactionType type) {
+        this.stock = stock;
+        this.quantity = quantity;
+        this.price = price;
+        this.type = type;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public Stock getStock() {
+        return stock;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        return String.format("%s - %s %d %s at $%.2f", 
+            timestamp.format(formatter), type, quantity, stock.getSymbol(), price);
+    }
+}
+
+enum TransactionType {
+    BUY, SELL
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+package codealpha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BatchCommandProcessorTest {
+    // Well past the 64 batches of 1024 commands the pipeline queue holds
+    private static final int COMMAND_COUNT = 100_000;
+
+    @Test
+    void pipelinedRunMatchesSequentialRunOnLargeInput() {
+        String input = generateCommands(COMMAND_COUNT, new Random(42));
+
+        String sequential = assertTimeoutPreemptively(Duration.ofSeconds(60), () -> run(new Hotel(), input, false));
+        String pipelined = assertTimeoutPreemptively(Duration.ofSeconds(60), () -> run(new Hotel(), input, true));
+
+        assertEquals(COMMAND_COUNT, sequential.lines().count());
+        // Reservation ids come from a global counter, so compare everything but the ids
+        assertEquals(withoutReservationIds(sequential), withoutReservationIds(pipelined));
+    }
+
+    @Test
+    void failingCommandReportsErrorAndRunContinues() throws IOException {
+        String input = "search 2025-03-01 2025-03-02\n"
+            + "book 101 2025-03-01 2025-03-03 Ada Lovelace\n"
+            + "search 2025-03-02 2025-03-03\n";
+
+        for (boolean pipeline : new boolean[] { false, true }) {
+            String[] lines = run(failingSearchHotel(LocalDate.of(2025, 3, 1)), input, pipeline).split("\n");
+
+            assertEquals(3, lines.length);
+            assertEquals("ERROR line 1: search backend unavailable", lines[0]);
+            assertTrue(lines[1].startsWith("BOOKED "), lines[1]);
+            assertEquals("AVAILABLE 102 201 202 301", lines[2]);
+        }
+    }
+
+    @Test
+    void outputFailureStopsTheParser() throws InterruptedException {
+        // Endless input: the parser only stops if the consumer tells it to
+        Reader endless = new Reader() {
+            private final char[] command = "search 2025-03-01 2025-03-02\n".toCharArray();
+            private int position;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                for (int i = 0; i < length; i++) {
+                    buffer[offset + i] = command[position];
+                    position = (position + 1) % command.length;
+                }
+                return length;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        // Like a closed stdout: the first flush of the output buffer fails
+        Writer closed = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("Stream closed");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> assertThrows(IOException.class,
+                () -> new BatchCommandProcessor(new Hotel()).run(endless, closed, true)));
+
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals("batch-parser")) {
+                thread.join(10_000);
+                assertFalse(thread.isAlive(), "parser thread still running");
+            }
+        }
+    }
+
+    private static Hotel failingSearchHotel(LocalDate failingCheckIn) {
+        return new Hotel() {
+            @Override
+            public List<Room> searchAvailableRooms(LocalDate checkIn, LocalDate checkOut) {
+                if (checkIn.equals(failingCheckIn)) {
+                    throw new IllegalStateException("search backend unavailable");
+                }
+                return super.searchAvailableRooms(checkIn, checkOut);
+            }
+        };
+    }
+
+    private static String run(Hotel hotel, String input, boolean pipeline) throws IOException {
+        StringWriter output = new StringWriter();
+        new BatchCommandProcessor(hotel).run(new StringReader(input), output, pipeline);
+        return output.toString();
+    }
+
+    private static String generateCommands(int count, Random random) {
+        StringBuilder input = new StringBuilder(count * 40);
+        int[] rooms = { 101, 102, 201, 202, 301 };
+        LocalDate first = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < count; i++) {
+            LocalDate checkIn = first.plusDays(random.nextInt(3650));
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(7));
+            int kind = random.nextInt(100);
+            if (kind < 60) {
+                input.append("book ").append(rooms[random.nextInt(rooms.length)]).append(' ')
+                    .append(checkIn).append(' ').append(checkOut).append(" Guest ").append(i);
+            } else if (kind < 95) {
+                input.append("search ").append(checkIn).append(' ').append(checkOut);
+            } else if (kind < 99) {
+                input.append("report ").append(checkIn).append(' ').append(checkOut);
+            } else {
+                input.append("book ").append(rooms[0]).append(" not-a-date ").append(checkOut).append(" Guest");
+            }
+            input.append('\n');
+        }
+        return input.toString();
+    }
+
+    private static String withoutReservationIds(String output) {
+        return output.replaceAll("(?m)^BOOKED \\d+", "BOOKED");
+    }
+}
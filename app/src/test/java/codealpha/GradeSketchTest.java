@@ -0,0 +1,123 @@
+package codealpha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class GradeSketchTest {
+    private static final int GRADE_COUNT = 1_000_000;
+    private static final double[] FRACTIONS = { 0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99 };
+
+    @Test
+    void quantilesStayWithinRankErrorOfExactAnswer() {
+        double[] grades = grades(GRADE_COUNT, new Random(11));
+        GradeSketch sketch = new GradeSketch(GradeSketch.DEFAULT_K, new Random(12));
+        for (double grade : grades) {
+            sketch.add(grade);
+        }
+
+        double[] sorted = grades.clone();
+        Arrays.sort(sorted);
+        assertEquals(GRADE_COUNT, sketch.getCount());
+        assertEquals(sorted[0], sketch.getMin());
+        assertEquals(sorted[sorted.length - 1], sketch.getMax());
+        assertWithinRankError(sketch, sorted);
+    }
+
+    @Test
+    void mergedQuantilesStayWithinRankErrorOfExactAnswer() {
+        double[] grades = grades(GRADE_COUNT, new Random(21));
+        Random random = new Random(22);
+        GradeSketch merged = new GradeSketch(GradeSketch.DEFAULT_K, random);
+
+        // Uneven cohorts, from a handful of grades up to a large share of the total
+        int from = 0;
+        int cohort = 7;
+        while (from < grades.length) {
+            int to = Math.min(grades.length, from + cohort);
+            GradeSketch part = new GradeSketch(GradeSketch.DEFAULT_K, random);
+            for (int i = from; i < to; i++) {
+                part.add(grades[i]);
+            }
+            merged.merge(part);
+            from = to;
+            cohort *= 3;
+        }
+
+        double[] sorted = grades.clone();
+        Arrays.sort(sorted);
+        assertEquals(GRADE_COUNT, merged.getCount());
+        assertWithinRankError(merged, sorted);
+    }
+
+    @Test
+    void retainedItemsStayBoundedAsGradesGrow() {
+        GradeSketch sketch = new GradeSketch(GradeSketch.DEFAULT_K, new Random(31));
+        Random random = new Random(32);
+        // About 3k items, plus the minimum-size bottom levels
+        int bound = 4 * GradeSketch.DEFAULT_K;
+        for (int n = 1; n <= GRADE_COUNT; n++) {
+            sketch.add(random.nextDouble() * 100);
+            if (n % 10_000 == 0) {
+                // An exact answer would have to keep all n grades
+                assertTrue(sketch.getRetainedItems() <= bound,
+                        "retained " + sketch.getRetainedItems() + " after " + n + " grades");
+            }
+        }
+    }
+
+    @Test
+    void queriesDoNotChangeTheSketch() {
+        GradeSketch sketch = new GradeSketch(GradeSketch.DEFAULT_K, new Random(41));
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add(random.nextInt(101));
+        }
+        GradeSketch copy = new GradeSketch(sketch);
+
+        double[] first = sketch.getQuantiles(FRACTIONS);
+        assertEquals(Arrays.toString(first), Arrays.toString(sketch.getQuantiles(FRACTIONS)));
+        assertEquals(Arrays.toString(first), Arrays.toString(copy.getQuantiles(FRACTIONS)));
+    }
+
+    private static void assertWithinRankError(GradeSketch sketch, double[] sorted) {
+        double epsilon = sketch.getNormalizedRankError();
+        double[] quantiles = sketch.getQuantiles(FRACTIONS);
+        for (int q = 0; q < FRACTIONS.length; q++) {
+            // Ties give a range of ranks for the returned value; measure to the nearest one
+            long target = (long) Math.ceil(FRACTIONS[q] * sorted.length);
+            long lowest = firstIndexAbove(sorted, Math.nextDown(quantiles[q])) + 1;
+            long highest = firstIndexAbove(sorted, quantiles[q]);
+            long distance = target < lowest ? lowest - target : target > highest ? target - highest : 0;
+            double error = (double) distance / sorted.length;
+            assertTrue(error <= epsilon, "p" + FRACTIONS[q] * 100 + " rank error " + error + " > " + epsilon);
+        }
+    }
+
+    // Number of values <= value
+    private static int firstIndexAbove(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double[] grades(int count, Random random) {
+        double[] grades = new double[count];
+        for (int i = 0; i < count; i++) {
+            // Continuous values so ties cannot hide rank error; clamping piles a few up at 0 and 100
+            grades[i] = Math.min(100, Math.max(0, 72 + random.nextGaussian() * 14));
+        }
+        return grades;
+    }
+}
@@ -0,0 +1,211 @@
+package codealpha;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class GradeStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsNamesAndGrades() throws IOException {
+        Path file = directory.resolve("grades.dat");
+        List<Student> students = List.of(
+            student("Zoë Ångström", 91.5, 78.25, 100),
+            student("李小龙", 65),
+            student("Émile 🙂 O'Brien"),
+            student("Ada Lovelace", 88, 92, 79.75, 84));
+
+        new GradeStore(file).save(students);
+
+        assertSameStudents(students, new GradeStore(file).load());
+    }
+
+    @Test
+    void incrementalSaveAppendsOnlyNewGrades() throws IOException {
+        Path file = directory.resolve("grades.dat");
+        Student ada = student("Ada", 90, 80);
+        Student grace = student("Grace", 70);
+        new GradeStore(file).save(List.of(ada, grace));
+        byte[] firstSave = Files.readAllBytes(file);
+
+        GradeStore store = new GradeStore(file);
+        List<Student> loaded = new ArrayList<>(store.load());
+        loaded.get(0).addGrade(100);
+        Student linus = student("Linus", 55, 65);
+        loaded.add(linus);
+        store.save(loaded);
+
+        // The first save's bytes, footer included, are left exactly as they were
+        byte[] secondSave = Files.readAllBytes(file);
+        assertArrayEquals(firstSave, Arrays.copyOf(secondSave, firstSave.length));
+        assertSameStudents(List.of(student(ada.getId(), "Ada", 90, 80, 100),
+                grace, linus), new GradeStore(file).load());
+
+        // Saving again with nothing new leaves the file alone
+        long secondSize = Files.size(file);
+        store.save(loaded);
+        assertEquals(secondSize, Files.size(file));
+    }
+
+    @Test
+    void interruptedSaveFallsBackToLastCompleteSave() throws IOException {
+        Path file = directory.resolve("grades.dat");
+        Student ada = student("Ada", 90, 80);
+        GradeStore store = new GradeStore(file);
+        store.save(List.of(ada));
+        long committed = Files.size(file);
+
+        // A save that died half way through its block leaves a torn tail
+        ByteBuffer torn = ByteBuffer.allocate(64);
+        torn.putInt(0x47524442).putInt(7);
+        new Random(1).ints(14).forEach(torn::putInt);
+        Files.write(file, torn.array(), StandardOpenOption.APPEND);
+
+        assertSameStudents(List.of(ada), new GradeStore(file).load());
+
+        // The next save drops the torn bytes and carries on from the last good footer
+        ada.addGrade(70);
+        store.save(List.of(ada));
+        List<Student> reloaded = new GradeStore(file).load();
+        assertSameStudents(List.of(student(ada.getId(), "Ada", 90, 80, 70)), reloaded);
+        assertTrue(Files.size(file) > committed);
+    }
+
+    @Test
+    void tornFirstSaveReadsAsEmptyStore() throws IOException {
+        Path file = directory.resolve("grades.dat");
+        new GradeStore(file).save(List.of(student("Ada", 90, 80)));
+
+        // The first save wrote its block but died before the footer
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        GradeStore store = new GradeStore(file);
+        assertEquals(List.of(), store.load());
+
+        // The torn block is discarded and the store is usable again
+        Student grace = student("Grace", 70, 75);
+        store.save(List.of(grace));
+        assertSameStudents(List.of(grace), new GradeStore(file).load());
+
+        // Saving through a store that never loaded works the same way
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Integer.BYTES + 3);
+        }
+        new GradeStore(file).save(List.of(grace));
+        assertSameStudents(List.of(grace), new GradeStore(file).load());
+    }
+
+    @Test
+    void saveWithoutLoadAppendsOnlyNewGrades() throws IOException {
+        Path file = directory.resolve("grades.dat");
+        Student ada = student("Ada", 90);
+        new GradeStore(file).save(List.of(ada));
+        new GradeStore(file).save(List.of(ada));
+        assertSameStudents(List.of(ada), new GradeStore(file).load());
+
+        ada.addGrade(80);
+        Student grace = student("Grace", 70);
+        new GradeStore(file).save(List.of(ada, grace));
+        assertSameStudents(List.of(student(ada.getId(), "Ada", 90, 80), grace), new GradeStore(file).load());
+    }
+
+    @Test
+    void truncatedFooterFallsBackToPreviousSave() throws IOException {
+        Path file = directory.resolve("grades.dat");
+        Student ada = student("Ada", 90, 80);
+        GradeStore store = new GradeStore(file);
+        store.save(List.of(ada));
+        ada.addGrade(60);
+        store.save(List.of(ada));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        assertSameStudents(List.of(student(ada.getId(), "Ada", 90, 80)), new GradeStore(file).load());
+    }
+
+    @Test
+    void rejectsFilesWithoutAValidFooter() throws IOException {
+        Path garbage = directory.resolve("garbage.dat");
+        byte[] bytes = new byte[4096];
+        new Random(7).nextBytes(bytes);
+        Files.write(garbage, bytes);
+        assertThrows(IOException.class, () -> new GradeStore(garbage).load());
+
+        Path tiny = directory.resolve("tiny.dat");
+        Files.write(tiny, new byte[] { 1, 2, 3 });
+        assertThrows(IOException.class, () -> new GradeStore(tiny).load());
+    }
+
+    @Test
+    void rejectsCorruptBlock() throws IOException {
+        Path file = directory.resolve("grades.dat");
+        new GradeStore(file).save(List.of(student("Ada", 90, 80)));
+
+        // Claim far more grades than the block holds, keeping the footer valid
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            int gradeCountOffset = 4 * Integer.BYTES + "Ada".length();
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 1_000_000), gradeCountOffset);
+        }
+
+        assertThrows(IOException.class, () -> new GradeStore(file).load());
+    }
+
+    private static Student student(String name, double... grades) {
+        Student student = new Student(name);
+        for (double grade : grades) {
+            student.addGrade(grade);
+        }
+        return student;
+    }
+
+    private static Student student(int id, String name, double... grades) {
+        Student student = new Student(id, name);
+        for (double grade : grades) {
+            student.addGrade(grade);
+        }
+        return student;
+    }
+
+    private static void assertSameStudents(List<Student> expected, List<Student> actual) {
+        assertEquals(describe(expected).keySet(), describe(actual).keySet());
+        Map<Integer, Student> actualById = new LinkedHashMap<>();
+        for (Student student : actual) {
+            actualById.put(student.getId(), student);
+        }
+        for (Student student : expected) {
+            Student loaded = actualById.get(student.getId());
+            assertEquals(student.getName(), loaded.getName());
+            assertArrayEquals(student.getGrades(), loaded.getGrades());
+        }
+    }
+
+    private static Map<Integer, String> describe(List<Student> students) {
+        Map<Integer, String> names = new LinkedHashMap<>();
+        for (Student student : students) {
+            names.put(student.getId(), student.getName());
+        }
+        return names;
+    }
+}
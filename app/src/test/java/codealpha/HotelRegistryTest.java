@@ -0,0 +1,106 @@
+package codealpha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class HotelRegistryTest {
+    private static final LocalDate CHECK_IN = LocalDate.of(2025, 6, 1);
+    private static final LocalDate CHECK_OUT = CHECK_IN.plusDays(3);
+
+    private final Room harbourStandard = new Room(101, "Standard", 100);
+    private final Room harbourDeluxe = new Room(201, "Deluxe", 180);
+    private final Room harbourSuite = new Room(301, "Suite", 400);
+    private final Room airportStandard = new Room(1, "Standard", 80);
+    private final Room airportStandardPlus = new Room(2, "Standard", 120);
+
+    private HotelRegistry registry() {
+        HotelRegistry registry = new HotelRegistry();
+        registry.addProperty("Harbour", List.of(harbourStandard, harbourDeluxe, harbourSuite));
+        registry.addProperty("Airport", List.of(airportStandard, airportStandardPlus));
+        return registry;
+    }
+
+    @Test
+    void routesReservationLifecycleThroughItsShard() {
+        HotelRegistry registry = registry();
+        Reservation reservation = registry.makeReservation("Harbour", harbourDeluxe, "Ada", CHECK_IN, CHECK_OUT);
+        assertNotNull(reservation);
+        int id = reservation.getReservationId();
+
+        assertSame(reservation, registry.getReservation(id));
+        assertEquals("Harbour", registry.getProperty(id));
+        assertFalse(registry.processPayment(id, reservation.getTotalPrice() - 1));
+        assertTrue(registry.processPayment(id, reservation.getTotalPrice()));
+
+        // The booked room drops out of the search, and only that room
+        Map<String, List<Room>> booked = registry.searchAvailableRooms(CHECK_IN, CHECK_OUT);
+        assertEquals(List.of(harbourStandard, harbourSuite), booked.get("Harbour"));
+        assertNull(registry.makeReservation("Harbour", harbourDeluxe, "Grace", CHECK_IN.plusDays(1), CHECK_OUT));
+
+        assertTrue(registry.cancelReservation(id));
+        assertNull(registry.getReservation(id));
+        assertNull(registry.getProperty(id));
+        assertFalse(registry.processPayment(id, reservation.getTotalPrice()));
+        assertFalse(registry.cancelReservation(id));
+        assertEquals(List.of(harbourStandard, harbourDeluxe, harbourSuite),
+                registry.searchAvailableRooms(CHECK_IN, CHECK_OUT).get("Harbour"));
+    }
+
+    @Test
+    void rejectsRoomsWithoutAShardAtTheProperty() {
+        HotelRegistry registry = registry();
+
+        // Airport has no Suite shard, and no property is called Downtown
+        assertNull(registry.makeReservation("Airport", harbourSuite, "Ada", CHECK_IN, CHECK_OUT));
+        assertNull(registry.makeReservation("Downtown", harbourStandard, "Ada", CHECK_IN, CHECK_OUT));
+        // Right category, but the room belongs to another property's shard
+        assertNull(registry.makeReservation("Airport", harbourStandard, "Ada", CHECK_IN, CHECK_OUT));
+
+        assertEquals(List.of(harbourStandard, harbourDeluxe, harbourSuite),
+                registry.searchAvailableRooms(CHECK_IN, CHECK_OUT).get("Harbour"));
+        assertFalse(registry.processPayment(-1, 0));
+        assertNull(registry.getReservation(-1));
+    }
+
+    @Test
+    void filteredSearchReturnsOnlyMatchingShards() {
+        HotelRegistry registry = registry();
+
+        assertEquals(Map.of("Harbour", List.of(harbourStandard),
+                        "Airport", List.of(airportStandard, airportStandardPlus)),
+                registry.searchAvailableRooms(CHECK_IN, CHECK_OUT, "standard", 0, Double.MAX_VALUE));
+        assertEquals(Map.of("Harbour", List.of(harbourSuite)),
+                registry.searchAvailableRooms(CHECK_IN, CHECK_OUT, "Suite", 0, Double.MAX_VALUE));
+        assertEquals(Map.of(), registry.searchAvailableRooms(CHECK_IN, CHECK_OUT, "Penthouse", 0, Double.MAX_VALUE));
+
+        // The price filter prunes whole shards and also applies within a shard
+        assertEquals(Map.of("Harbour", List.of(harbourStandard), "Airport", List.of(airportStandardPlus)),
+                registry.searchAvailableRooms(CHECK_IN, CHECK_OUT, null, 90, 150));
+        assertEquals(Map.of("Airport", List.of(airportStandard)),
+                registry.searchAvailableRooms(CHECK_IN, CHECK_OUT, "Standard", 0, 90));
+        assertEquals(Map.of(), registry.searchAvailableRooms(CHECK_IN, CHECK_OUT, null, 500, 1000));
+    }
+
+    @Test
+    void recordsOneTimerSamplePerRegistryQuery() {
+        HotelRegistry registry = registry();
+        OperationTimer registryTimer = Metrics.timer("hotelRegistry.searchAvailableRooms");
+        OperationTimer hotelTimer = Metrics.timer("hotel.searchAvailableRooms");
+        long registrySamples = registryTimer.snapshot().getCount();
+        long hotelSamples = hotelTimer.snapshot().getCount();
+
+        registry.searchAvailableRooms(CHECK_IN, CHECK_OUT);
+
+        assertEquals(registrySamples + 1, registryTimer.snapshot().getCount());
+        assertEquals(hotelSamples, hotelTimer.snapshot().getCount());
+    }
+}
@@ -0,0 +1,118 @@
+package codealpha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class HotelTest {
+    @Test
+    void rejectsStaysOutsideBookingHorizonWithoutSideEffects() {
+        Hotel hotel = new Hotel();
+        Room room = hotel.getRoom(102);
+        LocalDate checkIn = LocalDate.of(2025, 1, 1);
+
+        assertNull(hotel.makeReservation(room, "Far Future", checkIn, LocalDate.of(999999, 1, 1)));
+        assertNull(hotel.makeReservation(room, "Too Long", checkIn, checkIn.plusDays(Hotel.MAX_STAY_NIGHTS + 1)));
+        assertNull(hotel.makeReservation(room, "Too Early", LocalDate.of(1969, 12, 31), LocalDate.of(1970, 1, 2)));
+
+        assertTrue(hotel.searchAvailableRooms(checkIn, checkIn.plusDays(30)).contains(room));
+        assertEquals(0, hotel.getOccupancyLedger().getRoomNights("Standard", checkIn, LocalDate.of(2100, 1, 1)));
+    }
+
+    @Test
+    void acceptsStaysAtBothEndsOfHorizon() {
+        Hotel hotel = new Hotel();
+        Room room = hotel.getRoom(301);
+
+        assertNotNull(hotel.makeReservation(room, "First", Hotel.FIRST_BOOKABLE_NIGHT,
+                Hotel.FIRST_BOOKABLE_NIGHT.plusDays(Hotel.MAX_STAY_NIGHTS)));
+        assertNotNull(hotel.makeReservation(room, "Last", Hotel.LAST_BOOKABLE_CHECK_OUT.minusDays(2),
+                Hotel.LAST_BOOKABLE_CHECK_OUT));
+
+        OccupancyLedger ledger = hotel.getOccupancyLedger();
+        assertEquals(Hotel.MAX_STAY_NIGHTS + 2,
+                ledger.getRoomNights("Suite", Hotel.FIRST_BOOKABLE_NIGHT, Hotel.LAST_BOOKABLE_CHECK_OUT));
+    }
+
+    @Test
+    void ledgerMatchesReservationBook() {
+        Hotel hotel = new Hotel();
+        Random random = new Random(3);
+        List<Reservation> booked = new ArrayList<>();
+        int[] rooms = { 101, 102, 201, 202, 301 };
+        long horizonDays = ChronoUnit.DAYS.between(Hotel.FIRST_BOOKABLE_NIGHT, Hotel.LAST_BOOKABLE_CHECK_OUT);
+
+        for (int i = 0; i < 2000; i++) {
+            if (!booked.isEmpty() && random.nextInt(4) == 0) {
+                Reservation cancelled = booked.remove(random.nextInt(booked.size()));
+                assertTrue(hotel.cancelReservation(cancelled.getReservationId()));
+                continue;
+            }
+            LocalDate checkIn = Hotel.FIRST_BOOKABLE_NIGHT.plusDays(random.nextLong(horizonDays - 30));
+            Reservation reservation = hotel.makeReservation(hotel.getRoom(rooms[random.nextInt(rooms.length)]),
+                    "Guest " + i, checkIn, checkIn.plusDays(1 + random.nextInt(30)));
+            if (reservation != null) {
+                booked.add(reservation);
+            }
+        }
+
+        OccupancyLedger ledger = hotel.getOccupancyLedger();
+        for (int q = 0; q < 200; q++) {
+            LocalDate from = Hotel.FIRST_BOOKABLE_NIGHT.plusDays(random.nextLong(horizonDays));
+            LocalDate to = from.plusDays(random.nextInt(5000));
+            for (String category : ledger.getCategories()) {
+                long nights = 0;
+                double revenue = 0;
+                for (Reservation reservation : booked) {
+                    if (reservation.getRoom().getCategory().equals(category)) {
+                        long overlap = overlap(reservation, from, to);
+                        nights += overlap;
+                        revenue += overlap * reservation.getRoom().getPricePerNight();
+                    }
+                }
+                assertEquals(nights, ledger.getRoomNights(category, from, to));
+                assertEquals(revenue, ledger.getRevenue(category, from, to), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void registrySearchListsRoomsInRoomNumberOrder() {
+        HotelRegistry registry = new HotelRegistry();
+        List<Room> rooms = new ArrayList<>();
+        String[] categories = { "Suite", "Standard", "Deluxe" };
+        for (int i = 0; i < 60; i++) {
+            // Room numbers are shuffled across the three category shards
+            rooms.add(new Room(100 + (i * 37) % 60, categories[i % categories.length], 100 + i));
+        }
+        registry.addProperty("Harbour", rooms);
+        registry.addProperty("Airport", List.of(new Room(2, "Standard", 90), new Room(1, "Suite", 300)));
+
+        LocalDate checkIn = LocalDate.of(2025, 6, 1);
+        for (int run = 0; run < 20; run++) {
+            Map<String, List<Room>> results = registry.searchAvailableRooms(checkIn, checkIn.plusDays(2));
+            assertEquals(List.of("Airport", "Harbour"), new ArrayList<>(results.keySet()));
+            for (List<Room> available : results.values()) {
+                for (int i = 1; i < available.size(); i++) {
+                    assertTrue(available.get(i - 1).getRoomNumber() < available.get(i).getRoomNumber());
+                }
+            }
+            assertEquals(60, results.get("Harbour").size());
+        }
+    }
+
+    private static long overlap(Reservation reservation, LocalDate from, LocalDate to) {
+        LocalDate start = reservation.getCheckInDate().isAfter(from) ? reservation.getCheckInDate() : from;
+        LocalDate end = reservation.getCheckOutDate().isBefore(to) ? reservation.getCheckOutDate() : to;
+        return Math.max(0, ChronoUnit.DAYS.between(start, end));
+    }
+}
@@ -0,0 +1,98 @@
+package codealpha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LeaderboardTest {
+    private static final Comparator<Student> BEST_FIRST = Comparator
+            .comparingDouble(Student::getAverageGrade).reversed()
+            .thenComparingInt(Student::getId);
+
+    @Test
+    void matchesSortedRosterAfterRandomUpdates() {
+        Random random = new Random(5);
+        Leaderboard leaderboard = new Leaderboard();
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            ids.add(1_000_000 + i);
+        }
+        // Ids out of insertion order, so ties are not broken by when a student joined
+        Collections.shuffle(ids, random);
+
+        List<Student> roster = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Student student = new Student(ids.get(i), "Student " + i);
+            // A few students never get a grade and all tie at 0
+            if (i % 50 != 0) {
+                student.addGrade(grade(random));
+            }
+            leaderboard.add(student);
+            roster.add(student);
+        }
+        assertMatchesSortedRoster(leaderboard, roster, random);
+
+        for (int round = 0; round < 10; round++) {
+            for (int update = 0; update < 2000; update++) {
+                roster.get(random.nextInt(roster.size())).addGrade(grade(random));
+            }
+            assertMatchesSortedRoster(leaderboard, roster, random);
+        }
+    }
+
+    @Test
+    void studentsOffTheBoardHaveNoRank() {
+        Leaderboard leaderboard = new Leaderboard();
+        Student ada = new Student(1, "Ada");
+        ada.addGrade(90);
+        leaderboard.add(ada);
+
+        assertEquals(-1, leaderboard.rankOf(new Student(2, "Grace")));
+        assertEquals(List.of(), new Leaderboard().topK(3));
+        assertEquals(List.of(ada), leaderboard.topK(3));
+        assertEquals(List.of(), leaderboard.range(95, 100));
+        assertEquals(List.of(), leaderboard.range(100, 0));
+    }
+
+    private static void assertMatchesSortedRoster(Leaderboard leaderboard, List<Student> roster, Random random) {
+        List<Student> sorted = new ArrayList<>(roster);
+        sorted.sort(BEST_FIRST);
+
+        assertEquals(sorted.size(), leaderboard.size());
+        for (int k : new int[] { 0, 1, 10, 137, sorted.size(), sorted.size() + 5 }) {
+            assertEquals(sorted.subList(0, Math.min(k, sorted.size())), leaderboard.topK(k));
+        }
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i + 1, leaderboard.rankOf(sorted.get(i)));
+        }
+
+        for (int query = 0; query < 50; query++) {
+            // Bounds taken from real averages so that ties sit exactly on the edges
+            double a = sorted.get(random.nextInt(sorted.size())).getAverageGrade();
+            double b = sorted.get(random.nextInt(sorted.size())).getAverageGrade();
+            assertRange(leaderboard, sorted, Math.min(a, b), Math.max(a, b));
+        }
+        assertRange(leaderboard, sorted, 0, 0);
+        assertRange(leaderboard, sorted, 0, 100);
+    }
+
+    private static void assertRange(Leaderboard leaderboard, List<Student> sorted, double min, double max) {
+        List<Student> expected = new ArrayList<>();
+        for (Student student : sorted) {
+            if (student.getAverageGrade() >= min && student.getAverageGrade() <= max) {
+                expected.add(student);
+            }
+        }
+        assertEquals(expected, leaderboard.range(min, max), "range [" + min + ", " + max + "]");
+    }
+
+    // A handful of values so that many averages tie
+    private static double grade(Random random) {
+        return 50 + 10 * random.nextInt(6);
+    }
+}
@@ -0,0 +1,32 @@
+package codealpha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsTest {
+    @Test
+    void opsPerSecondCoversOnlyTheLatestInterval() {
+        OperationTimer timer = Metrics.timer("test.intervalRate");
+        for (int i = 0; i < 5; i++) {
+            timer.record(System.nanoTime());
+        }
+
+        String busy = line(Metrics.snapshot(), "test.intervalRate");
+        assertTrue(busy.contains(" count=5 "), busy);
+        assertFalse(busy.contains(" ops/s=0.0 "), busy);
+
+        // No operations since the last snapshot: the count stays, the rate drops to zero
+        String idle = line(Metrics.snapshot(), "test.intervalRate");
+        assertTrue(idle.contains(" count=5 "), idle);
+        assertTrue(idle.contains(" ops/s=0.0 "), idle);
+    }
+
+    private static String line(String snapshot, String timerName) {
+        String[] matches = snapshot.lines().filter(line -> line.startsWith(timerName + " ")).toArray(String[]::new);
+        assertEquals(1, matches.length, snapshot);
+        return matches[0];
+    }
+}
@@ -0,0 +1,37 @@
+package codealpha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class OperationTimerTest {
+    @Test
+    void exitedThreadsAreFoldedIntoRetiredCounts() throws InterruptedException {
+        OperationTimer timer = new OperationTimer("test.shortLivedThreads");
+        int threads = 200;
+        int recordsPerThread = 50;
+
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < recordsPerThread; i++) {
+                    timer.record(System.nanoTime() - 1_000);
+                }
+            });
+            worker.start();
+            worker.join();
+        }
+
+        // Each new thread retires the ones before it, so only the last can still be listed
+        assertTrue(timer.getRecorderCount() <= 1, "recorders: " + timer.getRecorderCount());
+        LatencyHistogram snapshot = timer.snapshot();
+        assertEquals(0, timer.getRecorderCount());
+        assertEquals((long) threads * recordsPerThread, snapshot.getCount());
+        assertTrue(snapshot.getPercentile(50) >= 1_000);
+
+        // Live threads keep their own recorder alongside the retired counts
+        timer.record(System.nanoTime());
+        assertEquals(1, timer.getRecorderCount());
+        assertEquals((long) threads * recordsPerThread + 1, timer.snapshot().getCount());
+    }
+}
@@ -0,0 +1,94 @@
+package codealpha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PositionMapTest {
+    @Test
+    void keepsEveryPositionAcrossGrowth() {
+        SymbolTable symbols = symbols(1000);
+        PositionMap positions = new PositionMap();
+        // Well past the 3/4 load factor of the initial 8 slots
+        for (int id = 0; id < 500; id++) {
+            positions.buy(symbols.get(id * 2), id + 1, (id + 1) * 10.0);
+        }
+
+        Map<Integer, Long> listed = listed(positions);
+        assertEquals(500, listed.size());
+        for (int id = 0; id < 500; id++) {
+            assertEquals(id + 1, positions.getQuantity(symbols.get(id * 2)));
+            assertEquals(id + 1, listed.get(id * 2));
+            assertEquals(0, positions.getQuantity(symbols.get(id * 2 + 1)));
+        }
+    }
+
+    @Test
+    void positionsSoldToZeroStayListed() {
+        SymbolTable symbols = symbols(3);
+        PositionMap positions = new PositionMap();
+        positions.buy(symbols.get(0), 10, 1000);
+        positions.buy(symbols.get(1), 5, 50);
+
+        assertFalse(positions.sell(symbols.get(0), 11));
+        assertFalse(positions.sell(symbols.get(2), 1));
+        assertTrue(positions.sell(symbols.get(0), 4));
+        assertTrue(positions.sell(symbols.get(0), 6));
+        assertFalse(positions.sell(symbols.get(0), 1));
+
+        assertEquals(Map.of(0, 0L, 1, 5L), listed(positions));
+        assertTrue(positions.sell(symbols.get(2), 0));
+        assertEquals(2, listed(positions).size());
+    }
+
+    @Test
+    void averagePurchasePriceCoversEveryBuy() {
+        SymbolTable symbols = symbols(1);
+        PositionMap positions = new PositionMap();
+
+        positions.buy(symbols.get(0), 10, 1000);
+        positions.sell(symbols.get(0), 10);
+        positions.buy(symbols.get(0), 30, 6000);
+
+        int slot = positions.firstSlot();
+        assertEquals(30, positions.quantityAt(slot));
+        // Sales do not change the cost basis: (1000 + 6000) / (10 + 30)
+        assertEquals(175, positions.averagePurchasePriceAt(slot), 1e-9);
+    }
+
+    @Test
+    void userValuationReadsCurrentPrices() {
+        SymbolTable symbols = symbols(2);
+        User user = new User("trader", 10_000, symbols);
+        user.buyStock(symbols.get(0), 10); // at 100
+        symbols.get(0).updatePrice(20);
+        user.buyStock(symbols.get(0), 10); // at 120
+        user.buyStock(symbols.get(1), 5); // at 101
+        assertTrue(user.sellStock(symbols.get(1), 5));
+
+        symbols.get(0).updatePrice(30);
+        assertEquals(20 * 150, user.getPortfolioValue(), 1e-9);
+        assertEquals(20 * 110, user.getTotalInvestment(), 1e-9);
+        assertEquals(10_000 - 1000 - 1200, user.getBalance(), 1e-9);
+    }
+
+    private static SymbolTable symbols(int count) {
+        SymbolTable symbols = new SymbolTable();
+        for (int i = 0; i < count; i++) {
+            symbols.register("SYM" + i, "Company " + i, 100 + i);
+        }
+        return symbols;
+    }
+
+    private static Map<Integer, Long> listed(PositionMap positions) {
+        Map<Integer, Long> listed = new HashMap<>();
+        for (int slot = positions.firstSlot(); slot >= 0; slot = positions.nextSlot(slot)) {
+            listed.put(positions.idAt(slot), positions.quantityAt(slot));
+        }
+        return listed;
+    }
+}
@@ -0,0 +1,68 @@
+package codealpha;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class SymbolTableTest {
+    @Test
+    void findsEverySymbolCaseInsensitivelyAfterRehashing() {
+        SymbolTable symbols = new SymbolTable();
+        // Far past the initial 32 slots, so the index rehashes several times
+        for (int i = 0; i < 1000; i++) {
+            Stock stock = symbols.register("Sym" + i, "Company " + i, 10 + i);
+            assertEquals(i, stock.getId());
+            assertEquals("SYM" + i, stock.getSymbol());
+        }
+
+        assertEquals(1000, symbols.size());
+        for (int i = 0; i < 1000; i++) {
+            Stock stock = symbols.get(i);
+            assertSame(stock, symbols.find("SYM" + i));
+            assertSame(stock, symbols.find("sym" + i));
+            assertSame(stock, symbols.find(new StringBuilder("sYm").append(i)));
+        }
+    }
+
+    @Test
+    void findReturnsNullWithoutAMatch() {
+        SymbolTable symbols = new SymbolTable();
+        symbols.register("AAPL", "Apple Inc.", 150);
+        symbols.register("AAPL2", "Apple Two", 10);
+
+        assertNull(symbols.find("MSFT"));
+        assertNull(symbols.find("AAP"));
+        assertNull(symbols.find("AAPL3"));
+        assertNull(symbols.find(""));
+        assertNull(new SymbolTable().find("AAPL"));
+    }
+
+    @Test
+    void rejectsSymbolRegisteredInAnotherCase() {
+        SymbolTable symbols = new SymbolTable();
+        symbols.register("TSLA", "Tesla, Inc.", 700);
+
+        assertThrows(IllegalArgumentException.class, () -> symbols.register("tsla", "Tesla again", 1));
+        assertEquals(1, symbols.size());
+    }
+
+    @Test
+    void pricesAreHeldByIdAndFollowUpdates() {
+        SymbolTable symbols = new SymbolTable();
+        for (int i = 0; i < 40; i++) {
+            symbols.register("S" + i, "Company " + i, 100 + i);
+        }
+        Stock stock = symbols.find("S33");
+
+        assertEquals(133, symbols.getPrice(stock.getId()));
+        stock.updatePrice(7);
+        assertEquals(140, symbols.getPrice(stock.getId()));
+        assertEquals(140, stock.getPrice());
+        stock.updatePrice(-1000);
+        assertEquals(0.01, stock.getPrice());
+        assertEquals(132, symbols.getPrice(32));
+    }
+}
@@ -0,0 +1,161 @@
+package codealpha;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH CSV result files and prints the change for every
+ * benchmark and parameter combination present in both. Primary scores and
+ * the normalized allocation rate ({@code gc.alloc.rate.norm}) are checked.
+ * A change for the worse counts as a regression only if it is beyond the
+ * threshold and the two runs' confidence intervals (score plus or minus the
+ * Score Error column) do not overlap; allocation changes under one byte per
+ * operation are ignored.
+ * <p>
+ * Usage: {@code BaselineComparator <baseline.csv> <current.csv> [threshold %]}
+ */
+public class BaselineComparator {
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double ALLOCATION_NOISE_BYTES = 1.0;
+
+    private static final class Score {
+        final String mode;
+        final double value;
+        final double error;
+        final String unit;
+
+        Score(String mode, double value, double error, String unit) {
+            this.mode = mode;
+            this.value = value;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        // Throughput improves upwards; every other JMH mode and the allocation rate improve downwards
+        boolean higherIsBetter(String key) {
+            return mode.equals("thrpt") && !key.contains(ALLOCATION_METRIC);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.csv> <current.csv> [threshold %]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        System.exit(compare(args[0], args[1], threshold) > 0 ? 1 : 0);
+    }
+
+    /** Prints the comparison and returns the number of regressions beyond {@code thresholdPercent}. */
+    static int compare(String baselineFile, String currentFile, double thresholdPercent) throws IOException {
+        Map<String, Score> baseline = read(baselineFile);
+        Map<String, Score> current = read(currentFile);
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            String key = entry.getKey();
+            Score now = entry.getValue();
+            Score before = baseline.get(key);
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s  (new)%n", key, "-", now.value, "");
+                continue;
+            }
+
+            double change = before.value == 0 ? 0 : (now.value - before.value) / before.value * 100;
+            double worsening = now.higherIsBetter(key) ? -change : change;
+            boolean worse = worsening > thresholdPercent;
+            boolean regressed = worse && !withinNoise(key, before, now);
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%% %s%s%n", key, before.value, now.value, change,
+                now.unit, regressed ? "  REGRESSION" : worse ? "  (within noise)" : "");
+        }
+        System.out.printf("%d regression(s) beyond %.1f%%%n", regressions, thresholdPercent);
+        return regressions;
+    }
+
+    // Sub-byte allocation differences are rounding, and overlapping intervals are not a measured change
+    private static boolean withinNoise(String key, Score before, Score now) {
+        if (key.contains(ALLOCATION_METRIC) && Math.abs(now.value - before.value) < ALLOCATION_NOISE_BYTES) {
+            return true;
+        }
+        return now.higherIsBetter(key)
+            ? now.value + now.error >= before.value - before.error
+            : now.value - now.error <= before.value + before.error;
+    }
+
+    private static Map<String, Score> read(String file) throws IOException {
+        List<String> lines = Files.readAllLines(Paths.get(file));
+        Map<String, Score> scores = new LinkedHashMap<>();
+        if (lines.isEmpty()) {
+            return scores;
+        }
+
+        List<String> header = parseLine(lines.get(0));
+        int benchmarkColumn = header.indexOf("Benchmark");
+        int modeColumn = header.indexOf("Mode");
+        int scoreColumn = header.indexOf("Score");
+        int errorColumn = -1;
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).startsWith("Score Error")) {
+                errorColumn = i;
+            }
+        }
+        int unitColumn = header.indexOf("Unit");
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = parseLine(line);
+            String benchmark = fields.get(benchmarkColumn);
+            int metric = benchmark.indexOf(":");
+            if (metric >= 0 && !benchmark.endsWith(ALLOCATION_METRIC)) {
+                continue;
+            }
+
+            StringBuilder key = new StringBuilder(benchmark);
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).startsWith("Param: ") && i < fields.size() && !fields.get(i).isEmpty()) {
+                    key.append(' ').append(header.get(i).substring("Param: ".length())).append('=').append(fields.get(i));
+                }
+            }
+            double value = parseNumber(fields.get(scoreColumn));
+            // A single iteration has no error estimate; JMH writes NaN and it counts as zero
+            double error = errorColumn < 0 ? 0 : parseNumber(fields.get(errorColumn));
+            scores.put(key.toString(), new Score(fields.get(modeColumn), value,
+                Double.isNaN(error) ? 0 : error, fields.get(unitColumn)));
+        }
+        return scores;
+    }
+
+    private static double parseNumber(String field) {
+        return field.isEmpty() ? Double.NaN : Double.parseDouble(field.replace(',', '.'));
+    }
+
+    // JMH quotes text fields and leaves numbers bare; quoted fields never contain quotes
+    private static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
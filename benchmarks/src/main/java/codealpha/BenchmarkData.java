@@ -0,0 +1,81 @@
+package codealpha;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic data generators shared by the benchmarks. Every generator
+ * takes a seeded {@link Random} so runs are comparable against a baseline.
+ */
+final class BenchmarkData {
+    static final LocalDate EPOCH = LocalDate.of(2020, 1, 1);
+    static final String[] CATEGORIES = { "Standard", "Deluxe", "Suite" };
+    private static final double[] BASE_PRICES = { 100, 150, 250 };
+
+    private BenchmarkData() {
+    }
+
+    /** Rooms spread over floors and categories, priced with a little variation per room. */
+    static List<Room> rooms(int count, Random random) {
+        return rooms(count, CATEGORIES.length, random);
+    }
+
+    /**
+     * Rooms spread over {@code categoryCount} categories. Past the first three
+     * the categories repeat as higher tiers ("Deluxe 2", ...), each a little
+     * dearer than the one before.
+     */
+    static List<Room> rooms(int count, int categoryCount, Random random) {
+        List<Room> rooms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int category = i % categoryCount;
+            int base = category % CATEGORIES.length;
+            int tier = category / CATEGORIES.length;
+            String name = tier == 0 ? CATEGORIES[base] : CATEGORIES[base] + " " + (tier + 1);
+            int roomNumber = (i / 50 + 1) * 100 + i % 50;
+            double price = BASE_PRICES[base] + 10 * tier + random.nextInt(40);
+            rooms.add(new Room(roomNumber, name, price));
+        }
+        return rooms;
+    }
+
+    /**
+     * Fills the hotel with {@code count} stays of 1-7 nights, separated by
+     * gaps of 1-5 days, round-robin across rooms. Returns the last night
+     * booked so callers can aim queries inside the booked period.
+     */
+    static LocalDate fillReservations(Hotel hotel, List<Room> rooms, int count, Random random) {
+        LocalDate[] nextFree = new LocalDate[rooms.size()];
+        LocalDate last = EPOCH;
+        for (int i = 0; i < count; i++) {
+            int index = i % rooms.size();
+            LocalDate checkIn = (nextFree[index] == null ? EPOCH : nextFree[index]).plusDays(1 + random.nextInt(5));
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(7));
+            hotel.makeReservation(rooms.get(index), "Guest " + i, checkIn, checkOut);
+            nextFree[index] = checkOut;
+            if (checkOut.isAfter(last)) {
+                last = checkOut;
+            }
+        }
+        return last;
+    }
+
+    static String studentName(int index) {
+        return String.format("Student %07d", index);
+    }
+
+    /** Grades roughly normal around 72 with a per-student offset, clamped to 0-100. */
+    static void addGrades(Student student, int count, Random random) {
+        double ability = random.nextGaussian() * 8;
+        for (int i = 0; i < count; i++) {
+            double grade = 72 + ability + random.nextGaussian() * 10;
+            student.addGrade(Math.max(0, Math.min(100, grade)));
+        }
+    }
+
+    static String knowledgeKey(int index) {
+        return String.format("term%06d", index);
+    }
+}
@@ -0,0 +1,47 @@
+package codealpha;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the usual JMH command line, and
+ * unless told otherwise also attaches the GC/allocation profiler and writes
+ * CSV results to {@code jmh-result.csv}. When {@code -Dbaseline=<csv>} is
+ * set, the results are compared against that file afterwards and the process
+ * exits non-zero on a regression.
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.csv";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats() || commandLine.shouldListWithParams()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.CSV);
+        }
+        String resultFile = commandLine.getResult().orElse(DEFAULT_RESULT_FILE);
+        options.result(resultFile);
+
+        new Runner(options.build()).run();
+
+        String baseline = System.getProperty("baseline");
+        if (baseline != null) {
+            double threshold = Double.parseDouble(System.getProperty("baseline.threshold", "10"));
+            int regressions = BaselineComparator.compare(baseline, resultFile, threshold);
+            System.exit(regressions > 0 ? 1 : 0);
+        }
+    }
+}
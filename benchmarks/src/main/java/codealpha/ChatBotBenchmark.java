@@ -0,0 +1,65 @@
+package codealpha;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Response generation against the size of the knowledge base. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChatBotBenchmark {
+    private static final int QUERIES = 1024;
+    private static final int BUILT_IN_ENTRIES = 4;
+
+    @Param({ "4", "1000", "10000" })
+    public int knowledgeBaseSize;
+
+    private AIChatBot chatbot;
+    private final String[] knownQuestions = new String[QUERIES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        chatbot = new AIChatBot();
+        int learned = knowledgeBaseSize - BUILT_IN_ENTRIES;
+        // Taught through the chat itself, the way users grow the knowledge base
+        for (int i = 0; i < learned; i++) {
+            chatbot.generateResponse(BenchmarkData.knowledgeKey(i) + " is fact number " + i);
+        }
+        for (int i = 0; i < QUERIES; i++) {
+            knownQuestions[i] = learned > 0 && random.nextBoolean()
+                ? "Tell me about " + BenchmarkData.knowledgeKey(random.nextInt(learned))
+                : "What can you do for me";
+        }
+    }
+
+    @Benchmark
+    public String knownQuestion() {
+        return chatbot.generateResponse(knownQuestions[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public String unknownQuestion() {
+        return chatbot.generateResponse("Why do clouds float");
+    }
+
+    @Benchmark
+    public String greeting() {
+        return chatbot.generateResponse("Hello there");
+    }
+}
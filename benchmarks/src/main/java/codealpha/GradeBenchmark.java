@@ -0,0 +1,135 @@
+package codealpha;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Student lookup, statistics and leaderboard maintenance against roster size.
+ * The {@code leaderboardContention} group runs grade updates alongside
+ * {@code topK} and {@code rankOf} readers on the same roster.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class GradeBenchmark {
+    private static final int GRADES_PER_STUDENT = 20;
+    private static final int QUERIES = 1024;
+
+    @Param({ "1000", "100000", "1000000" })
+    public int rosterSize;
+
+    private GradeTracker tracker;
+    private Leaderboard leaderboard;
+    private Student[] roster;
+    private final String[] lookupNames = new String[QUERIES];
+    private final Student[] queryStudents = new Student[QUERIES];
+    private final double[] newGrades = new double[QUERIES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        tracker = new GradeTracker();
+        roster = new Student[rosterSize];
+        for (int i = 0; i < rosterSize; i++) {
+            Student student = new Student(BenchmarkData.studentName(i));
+            BenchmarkData.addGrades(student, GRADES_PER_STUDENT, random);
+            student.getGradeSketch();
+            tracker.register(student);
+            roster[i] = student;
+        }
+        leaderboard = tracker.getLeaderboard();
+        for (int i = 0; i < QUERIES; i++) {
+            int index = random.nextInt(rosterSize);
+            lookupNames[i] = BenchmarkData.studentName(index).toLowerCase();
+            queryStudents[i] = roster[index];
+            newGrades[i] = 50 + random.nextInt(51);
+        }
+    }
+
+    @Benchmark
+    public Student findStudent() {
+        return tracker.findStudent(lookupNames[next++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public void studentStatistics(Blackhole blackhole) {
+        Student student = queryStudents[next++ & (QUERIES - 1)];
+        blackhole.consume(student.getAverageGrade());
+        blackhole.consume(student.getGradeQuantiles(0, 0.1, 0.5, 0.9, 1));
+        blackhole.consume(leaderboard.rankOf(student));
+    }
+
+    @Benchmark
+    public double[] classPercentiles() {
+        GradeSketch merged = new GradeSketch();
+        for (Student student : roster) {
+            student.mergeGradesInto(merged);
+        }
+        return merged.getQuantiles(0.1, 0.5, 0.9);
+    }
+
+    // Each grade also re-ranks the student on the leaderboard
+    @Benchmark
+    public void addGrade() {
+        int i = next++ & (QUERIES - 1);
+        queryStudents[i].addGrade(newGrades[i]);
+    }
+
+    @Benchmark
+    public List<Student> leaderboardTop10() {
+        return leaderboard.topK(10);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        @Setup
+        public void setUp() {
+            // Spread the group's threads over different students
+            next = ThreadLocalRandom.current().nextInt(QUERIES);
+        }
+    }
+
+    @Benchmark
+    @Group("leaderboardContention")
+    @GroupThreads(2)
+    public void contendedAddGrade(Cursor cursor) {
+        int i = cursor.next++ & (QUERIES - 1);
+        queryStudents[i].addGrade(newGrades[i]);
+    }
+
+    @Benchmark
+    @Group("leaderboardContention")
+    @GroupThreads(1)
+    public List<Student> contendedTop10() {
+        return leaderboard.topK(10);
+    }
+
+    @Benchmark
+    @Group("leaderboardContention")
+    @GroupThreads(1)
+    public int contendedRankOf(Cursor cursor) {
+        return leaderboard.rankOf(queryStudents[cursor.next++ & (QUERIES - 1)]);
+    }
+}
@@ -0,0 +1,73 @@
+package codealpha;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Percentiles from the KLL sketch against sorting every grade. The GC
+ * profiler's B/op shows the memory side: the exact answer copies all grades,
+ * the sketch query touches only the items it retains.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GradeSketchBenchmark {
+    private static final double[] FRACTIONS = { 0.1, 0.5, 0.9 };
+
+    @Param({ "1000", "100000", "1000000" })
+    public int gradeCount;
+
+    private double[] grades;
+    private GradeSketch sketch;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        grades = new double[gradeCount];
+        sketch = new GradeSketch();
+        for (int i = 0; i < gradeCount; i++) {
+            grades[i] = 50 + random.nextInt(51);
+            sketch.add(grades[i]);
+        }
+    }
+
+    @Benchmark
+    public double[] exactPercentiles() {
+        double[] sorted = grades.clone();
+        Arrays.sort(sorted);
+        double[] result = new double[FRACTIONS.length];
+        for (int q = 0; q < FRACTIONS.length; q++) {
+            result[q] = sorted[(int) Math.ceil(FRACTIONS[q] * sorted.length) - 1];
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double[] sketchPercentiles() {
+        return sketch.getQuantiles(FRACTIONS);
+    }
+
+    @Benchmark
+    public GradeSketch buildSketch() {
+        GradeSketch built = new GradeSketch();
+        for (double grade : grades) {
+            built.add(grade);
+        }
+        return built;
+    }
+}
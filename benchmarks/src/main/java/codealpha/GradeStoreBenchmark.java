@@ -0,0 +1,103 @@
+package codealpha;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Startup load of a saved roster: the binary {@link GradeStore} against a
+ * naive CSV text file of the same students, one line per student. Each
+ * invocation reads the whole file into a fresh roster, as
+ * {@code GradeTracker} does on start.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class GradeStoreBenchmark {
+    private static final int GRADES_PER_STUDENT = 200;
+
+    @Param({ "1000", "100000" })
+    public int rosterSize;
+
+    private Path binaryFile;
+    private Path textFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        List<Student> roster = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            Student student = new Student(i + 1, BenchmarkData.studentName(i));
+            BenchmarkData.addGrades(student, GRADES_PER_STUDENT, random);
+            roster.add(student);
+        }
+
+        binaryFile = Files.createTempFile("grades", ".dat");
+        Files.delete(binaryFile);
+        new GradeStore(binaryFile).save(roster);
+
+        textFile = Files.createTempFile("grades", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(textFile, StandardCharsets.UTF_8)) {
+            for (Student student : roster) {
+                writer.write(student.getId() + "," + student.getName());
+                for (double grade : student.getGrades()) {
+                    writer.write(',');
+                    writer.write(Double.toString(grade));
+                }
+                writer.newLine();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(binaryFile);
+        Files.deleteIfExists(textFile);
+    }
+
+    @Benchmark
+    public List<Student> loadBinary() throws IOException {
+        return new GradeStore(binaryFile).load();
+    }
+
+    @Benchmark
+    public List<Student> loadText() throws IOException {
+        List<Student> students = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                Student student = new Student(Integer.parseInt(fields[0]), fields[1]);
+                double[] grades = new double[fields.length - 2];
+                for (int i = 0; i < grades.length; i++) {
+                    grades[i] = Double.parseDouble(fields[i + 2]);
+                }
+                student.addGrades(grades, 0, grades.length);
+                students.add(student);
+            }
+        }
+        return students;
+    }
+}
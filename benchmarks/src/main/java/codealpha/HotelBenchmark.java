@@ -0,0 +1,85 @@
+package codealpha;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Availability search, booking and reporting against the size of the reservation book. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HotelBenchmark {
+    private static final int ROOMS = 200;
+    private static final int QUERIES = 1024;
+
+    @Param({ "1000", "100000" })
+    public int reservationCount;
+
+    private Hotel hotel;
+    private List<Room> rooms;
+    private final LocalDate[] checkIns = new LocalDate[QUERIES];
+    private final LocalDate[] checkOuts = new LocalDate[QUERIES];
+    private final Room[] roomChoices = new Room[QUERIES];
+    private LocalDate reportStart;
+    private LocalDate reportEnd;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rooms = BenchmarkData.rooms(ROOMS, random);
+        hotel = new Hotel(rooms);
+        LocalDate lastNight = BenchmarkData.fillReservations(hotel, rooms, reservationCount, random);
+
+        int bookedDays = (int) (lastNight.toEpochDay() - BenchmarkData.EPOCH.toEpochDay());
+        for (int i = 0; i < QUERIES; i++) {
+            checkIns[i] = BenchmarkData.EPOCH.plusDays(random.nextInt(bookedDays));
+            checkOuts[i] = checkIns[i].plusDays(1 + random.nextInt(7));
+            roomChoices[i] = rooms.get(random.nextInt(ROOMS));
+        }
+        reportEnd = lastNight;
+        reportStart = lastNight.minusMonths(12);
+    }
+
+    @Benchmark
+    public List<Room> searchAvailableRooms() {
+        int i = next++ & (QUERIES - 1);
+        return hotel.searchAvailableRooms(checkIns[i], checkOuts[i]);
+    }
+
+    // Cancels every successful booking so the book stays at reservationCount
+    @Benchmark
+    public Reservation bookAndCancel() {
+        int i = next++ & (QUERIES - 1);
+        Reservation reservation = hotel.makeReservation(roomChoices[i], "Walk-in", checkIns[i], checkOuts[i]);
+        if (reservation != null) {
+            hotel.cancelReservation(reservation.getReservationId());
+        }
+        return reservation;
+    }
+
+    @Benchmark
+    public void occupancyReport(Blackhole blackhole) {
+        OccupancyLedger ledger = hotel.getOccupancyLedger();
+        for (String category : ledger.getCategories()) {
+            blackhole.consume(ledger.getOccupancyPercent(category, reportStart, reportEnd));
+            blackhole.consume(ledger.getRevenue(category, reportStart, reportEnd));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package codealpha;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cross-property availability search against the number of properties and
+ * the number of shards (room categories) each property is split into. Every
+ * property has the same rooms whatever the shard count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HotelRegistryBenchmark {
+    private static final int ROOMS_PER_PROPERTY = 300;
+    private static final int RESERVATIONS_PER_PROPERTY = 1500;
+
+    @Param({ "10", "100" })
+    public int propertyCount;
+
+    @Param({ "1", "3", "12" })
+    public int shardsPerProperty;
+
+    private HotelRegistry registry;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        registry = new HotelRegistry();
+        for (int p = 0; p < propertyCount; p++) {
+            List<Room> rooms = BenchmarkData.rooms(ROOMS_PER_PROPERTY, shardsPerProperty, random);
+            String property = "Property " + p;
+            registry.addProperty(property, rooms);
+            for (int i = 0; i < RESERVATIONS_PER_PROPERTY; i++) {
+                Room room = rooms.get(random.nextInt(rooms.size()));
+                LocalDate start = BenchmarkData.EPOCH.plusDays(random.nextInt(365));
+                registry.makeReservation(property, room, "Guest " + i, start, start.plusDays(1 + random.nextInt(7)));
+            }
+        }
+        checkIn = BenchmarkData.EPOCH.plusDays(180);
+        checkOut = checkIn.plusDays(3);
+    }
+
+    @Benchmark
+    public Map<String, List<Room>> searchAllProperties() {
+        return registry.searchAvailableRooms(checkIn, checkOut);
+    }
+
+    // Only one shard per property matches, so more shards means less searched
+    @Benchmark
+    public Map<String, List<Room>> searchStandardUnderBudget() {
+        return registry.searchAvailableRooms(checkIn, checkOut, "Standard", 0, 120);
+    }
+}
@@ -0,0 +1,63 @@
+package codealpha;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of the latency instrumentation itself.
+ * <p>
+ * {@code instrumentedOperation} minus {@code bareOperation} is the overhead
+ * an instrumented method pays: the {@code nanoTime()} taken on entry plus
+ * {@code record()}, which reads the clock again and updates the thread's
+ * buckets. {@code timedOperation} is {@code record()} on its own and
+ * {@code clockOnly} a single clock read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    private static final long WORK_TOKENS = 32;
+
+    private final OperationTimer timer = Metrics.timer("benchmark.operation");
+
+    @Benchmark
+    public void bareOperation() {
+        Blackhole.consumeCPU(WORK_TOKENS);
+    }
+
+    @Benchmark
+    public void instrumentedOperation() {
+        long start = System.nanoTime();
+        Blackhole.consumeCPU(WORK_TOKENS);
+        timer.record(start);
+    }
+
+    @Benchmark
+    public long clockOnly() {
+        return System.nanoTime();
+    }
+
+    @Benchmark
+    public void timedOperation() {
+        timer.record(System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void timedOperationFourThreads() {
+        timer.record(System.nanoTime());
+    }
+}
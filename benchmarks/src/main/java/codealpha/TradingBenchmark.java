@@ -0,0 +1,88 @@
+package codealpha;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Trade execution and portfolio valuation against the account's transaction count. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TradingBenchmark {
+    private static final int SYMBOLS = 2000;
+    private static final int HOLDINGS = 50;
+    private static final int ORDERS = 1024;
+
+    @Param({ "100", "10000" })
+    public int transactionCount;
+
+    private SymbolTable symbols;
+    private User user;
+    private final Stock[] orderStocks = new Stock[ORDERS];
+    private final String[] orderSymbols = new String[ORDERS];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpMarket() {
+        Random random = new Random(42);
+        symbols = new SymbolTable();
+        for (int i = 0; i < SYMBOLS; i++) {
+            symbols.register("SYM" + i, "Company " + i, 10 + random.nextInt(1000));
+        }
+        for (int i = 0; i < ORDERS; i++) {
+            orderStocks[i] = symbols.get(random.nextInt(HOLDINGS));
+            orderSymbols[i] = orderStocks[i].getSymbol().toLowerCase();
+        }
+    }
+
+    // Rebuilt per iteration so the trades executed while measuring do not pile up
+    @Setup(Level.Iteration)
+    public void setUpAccount() {
+        Random random = new Random(7);
+        user = new User("trader", 1e12, symbols);
+        for (int i = 0; i < transactionCount; i++) {
+            Stock stock = symbols.get(random.nextInt(HOLDINGS));
+            if (random.nextInt(4) == 0 && user.getQuantity(stock) > 0) {
+                user.sellStock(stock, 1);
+            } else {
+                user.buyStock(stock, 1 + random.nextInt(100));
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean buyThenSell() {
+        Stock stock = orderStocks[next++ & (ORDERS - 1)];
+        user.buyStock(stock, 10);
+        return user.sellStock(stock, 10);
+    }
+
+    @Benchmark
+    public Stock symbolLookup() {
+        return symbols.find(orderSymbols[next++ & (ORDERS - 1)]);
+    }
+
+    @Benchmark
+    public double portfolioValue() {
+        return user.getPortfolioValue();
+    }
+
+    @Benchmark
+    public double totalInvestment() {
+        return user.getTotalInvestment();
+    }
+}